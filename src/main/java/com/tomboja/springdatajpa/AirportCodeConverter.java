@@ -0,0 +1,31 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.airport.Airports;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Hands loaded airport codes over as their {@link Airports} instance: flights
+ * share one String per code instead of holding the one the JDBC driver read
+ * for their row. Codes past the dimension's bound pass through as read. The
+ * column keeps the code as it is.
+ */
+
+@Converter
+public class AirportCodeConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String code) {
+        return code;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String code) {
+        return Airports.shared().canonical(code);
+    }
+}
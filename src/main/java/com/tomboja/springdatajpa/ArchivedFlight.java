@@ -0,0 +1,36 @@
+package com.tomboja.springdatajpa;
+
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * A flight moved out of the flight table once it is older than the archive
+ * retention, see FlightRepository#archiveScheduledBefore. Keeps its id.
+ */
+
+@Entity
+@Immutable
+@Table(name = "flight_archive", indexes = {
+        // History of an origin over a time range
+        @Index(name = "idx_flight_archive_origin_scheduled_at", columnList = "origin, scheduled_at, id")
+})
+@Getter
+@NoArgsConstructor
+@ToString
+public class ArchivedFlight {
+    @Id
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    private String origin;
+    private String destination;
+    @Column(name = "scheduled_at")
+    private LocalDateTime scheduledAt;
+}
@@ -1,9 +1,13 @@
 package com.tomboja.springdatajpa;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Locale;
 
 /**
  * @ProjectName: spring-data-JPA
@@ -12,18 +16,115 @@ import java.time.LocalDateTime;
  */
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "flight", indexes = {
+        // findByOrigin, paging by scheduledAt, origin IN (...) and deleteByOrigin
+        @Index(name = "idx_flight_origin_scheduled_at", columnList = "origin, scheduled_at, id"),
+        // findFlightByOriginAndDestination and the next departure on a route
+        @Index(name = "idx_flight_origin_destination", columnList = "origin, destination, scheduled_at, id"),
+        // findByOriginIgnoreCase and origin prefix search
+        @Index(name = "idx_flight_origin_upper", columnList = "origin_upper, id"),
+        // Natural key matched by upsertAll, not unique: schedules may list a flight twice
+        @Index(name = "idx_flight_natural_key", columnList = "origin_upper, destination, scheduled_at"),
+        // Sorting and seeking over all flights
+        @Index(name = "idx_flight_destination", columnList = "destination, id"),
+        @Index(name = "idx_flight_scheduled_at", columnList = "scheduled_at, id")
+})
 @Setter
 @Getter
-@AllArgsConstructor
 @NoArgsConstructor
 @ToString
 public class Flight {
+    private static final long NOT_SCHEDULED = Long.MIN_VALUE;
+
     @Id
     @Column(name = "id", nullable = false)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // A pooled sequence lets Hibernate hand out ids without a round-trip per
+    // insert, IDENTITY would switch JDBC batching off
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "flight_seq")
+    @SequenceGenerator(name = "flight_seq", sequenceName = "flight_seq", allocationSize = 50)
     private Long id;
 
+    // Loaded codes are shared between flights, see AirportCodeConverter
+    @Convert(converter = AirportCodeConverter.class)
     private String origin;
+    @Convert(converter = AirportCodeConverter.class)
     private String destination;
-    private LocalDateTime scheduledAt;
+
+    // Epoch microseconds at UTC (the precision of scheduled_at) instead of a
+    // LocalDateTime, its LocalDate and its LocalTime per flight. Mapped as
+    // scheduledAt through the accessors below
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long scheduledAtMicros = NOT_SCHEDULED;
+
+    // Upper-case copy of origin written with every insert and update, so that
+    // case insensitive lookups compare against an index instead of upper(origin)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @Convert(converter = AirportCodeConverter.class)
+    @Column(name = "origin_upper")
+    private String originUpper;
+
+    // Checked and incremented by every entity update, a stale copy fails to
+    // save instead of overwriting a newer change. Rows inserted around
+    // Hibernate start at the column default. Null only for new flights
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
+
+    public Flight(Long id, String origin, String destination, LocalDateTime scheduledAt) {
+        this.id = id;
+        this.origin = origin;
+        this.destination = destination;
+        setScheduledAt(scheduledAt);
+    }
+
+    @Access(AccessType.PROPERTY)
+    @Column(name = "scheduled_at")
+    @ToString.Include(name = "scheduledAt")
+    public LocalDateTime getScheduledAt() {
+        if (scheduledAtMicros == NOT_SCHEDULED) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(scheduledAtMicros, 1_000_000),
+                (int) Math.floorMod(scheduledAtMicros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Sets the time of departure, truncated to microseconds as the column
+     * stores it. Times beyond about 292,000 years from 1970 do not fit.
+     */
+    public void setScheduledAt(LocalDateTime scheduledAt) {
+        if (scheduledAt == null) {
+            scheduledAtMicros = NOT_SCHEDULED;
+            return;
+        }
+        final long micros;
+        try {
+            micros = Math.addExact(Math.multiplyExact(scheduledAt.toEpochSecond(ZoneOffset.UTC), 1_000_000L),
+                    scheduledAt.getNano() / 1_000);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Departure time out of range: " + scheduledAt, e);
+        }
+        if (micros == NOT_SCHEDULED) {
+            throw new IllegalArgumentException("Departure time out of range: " + scheduledAt);
+        }
+        scheduledAtMicros = micros;
+    }
+
+    /** The form of an origin code stored in origin_upper and searched by. */
+    public static String normalizeOrigin(String origin) {
+        return origin == null ? null : origin.toUpperCase(Locale.ROOT);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void normalize() {
+        originUpper = normalizeOrigin(origin);
+    }
 }
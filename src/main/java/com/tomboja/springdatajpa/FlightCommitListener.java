@@ -0,0 +1,70 @@
+package com.tomboja.springdatajpa;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Hears the flight inserts, updates and deletes that committed. Work that
+ * rolled back is ignored.
+ */
+
+public abstract class FlightCommitListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    /** Appends this listener to the post-commit events of the factory's sessions. */
+    public void register(EntityManagerFactory entityManagerFactory) {
+        final EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    // Abstract in Hibernate 5, deprecated for requiresPostCommitHandling
+    @Override
+    @SuppressWarnings("deprecation")
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return Flight.class.equals(persister.getMappedClass());
+    }
+
+    /** Origin of the flight before the update, null too when updated without a snapshot. */
+    protected static String previousOrigin(PostUpdateEvent event) {
+        final Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            return null;
+        }
+        final String[] properties = event.getPersister().getPropertyNames();
+        for (int i = 0; i < properties.length; i++) {
+            if ("origin".equals(properties[i])) {
+                return (String) oldState[i];
+            }
+        }
+        return null;
+    }
+}
@@ -1,13 +1,26 @@
 package com.tomboja.springdatajpa;
 
+import com.tomboja.springdatajpa.ingest.FlightImportRunner;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+// The JDBC DataSource backs off as soon as there is an R2DBC ConnectionFactory
+// bean, and a second transaction manager would make @Transactional ambiguous.
+// ReactiveFlightConfiguration keeps its connections to itself instead
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class SpringDataJpaApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(SpringDataJpaApplication.class, args);
+        final SpringApplication application = new SpringApplication(SpringDataJpaApplication.class);
+        if (FlightImportRunner.isImport(args)) {
+            // Command line import: no web server, exit once the file is loaded
+            application.setWebApplicationType(WebApplicationType.NONE);
+            System.exit(SpringApplication.exit(application.run(args)));
+        }
+        application.run(args);
     }
 
 }
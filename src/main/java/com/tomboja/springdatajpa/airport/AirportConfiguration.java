@@ -0,0 +1,33 @@
+package com.tomboja.springdatajpa.airport;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+import javax.sql.DataSource;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Configuration
+public class AirportConfiguration {
+
+    // The flight table exists once Hibernate has created its schema
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public AirportLoader airportLoader(DataSource dataSource) {
+        return new AirportLoader(dataSource, Airports.shared());
+    }
+
+    @Bean
+    public MeterBinder airportMetrics() {
+        return registry -> Gauge.builder("flights.airports", Airports.shared(), Airports::size)
+                .description("Airport codes interned for loaded flights, at most " + Airports.MAX_SIZE)
+                .register(registry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.tomboja.springdatajpa.airport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Caches the airport codes of the flight table in {@link Airports} once every
+ * singleton exists, in code order, so that ids follow the codes rather than
+ * the order the first lookups happen to load them in.
+ */
+
+@Slf4j
+public class AirportLoader implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Airports airports;
+
+    public AirportLoader(DataSource dataSource, Airports airports) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.airports = airports;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        final long started = System.nanoTime();
+        // Each part reads the index led by its column. origin_upper is left
+        // out, it is an upper-case copy of origin
+        jdbcTemplate.query("select origin from flight where origin is not null "
+                + "union select destination from flight where destination is not null "
+                + "order by 1", row -> {
+            airports.id(row.getString(1));
+        });
+        log.info("Cached {} airport codes in {} ms", airports.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+}
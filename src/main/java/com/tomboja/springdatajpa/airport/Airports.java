@@ -0,0 +1,90 @@
+package com.tomboja.springdatajpa.airport;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * The airport dimension: every airport code seen gets a small id and one
+ * canonical String, which loaded flights share instead of allocating the code
+ * per row (see {@link com.tomboja.springdatajpa.AirportCodeConverter}). Codes
+ * are kept for the life of the JVM, so there is a bound: past maxSize codes,
+ * e.g. free text or misspelled origins, new codes are handed back as they are
+ * instead of being kept.
+ */
+
+public final class Airports {
+
+    /** Ids fit in a short. */
+    public static final int MAX_SIZE = 1 << 15;
+    public static final int NONE = -1;
+
+    private static final Airports SHARED = new Airports(MAX_SIZE);
+
+    private final int maxSize;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] codes = new String[256];
+    private int size;
+
+    public Airports(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /** The dimension loaded flights share. */
+    public static Airports shared() {
+        return SHARED;
+    }
+
+    /** The shared instance of {@code code}, {@code code} itself once the dimension is full. */
+    public String canonical(String code) {
+        final int id = id(code);
+        return id == NONE ? code : codes[id];
+    }
+
+    /** The id of {@code code}, added if new. {@link #NONE} for null or once the dimension is full. */
+    public int id(String code) {
+        if (code == null) {
+            return NONE;
+        }
+        final Integer id = ids.get(code);
+        return id != null ? id : add(code);
+    }
+
+    /** The id of a code already seen, {@link #NONE} otherwise. */
+    public int find(String code) {
+        if (code == null) {
+            return NONE;
+        }
+        final Integer id = ids.get(code);
+        return id != null ? id : NONE;
+    }
+
+    public String code(int id) {
+        return id == NONE ? null : codes[id];
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    private synchronized int add(String code) {
+        final Integer existing = ids.get(code);
+        if (existing != null) {
+            return existing;
+        }
+        if (size == maxSize) {
+            return NONE;
+        }
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, Math.min(size * 2, maxSize));
+        }
+        // The code is published before its id, readers never see an unset slot
+        codes[size] = code;
+        ids.put(code, size);
+        return size++;
+    }
+}
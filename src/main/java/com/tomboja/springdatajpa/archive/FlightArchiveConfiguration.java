@@ -0,0 +1,28 @@
+package com.tomboja.springdatajpa.archive;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "flights.archive.enabled", havingValue = "true")
+@EnableConfigurationProperties(FlightArchiveProperties.class)
+public class FlightArchiveConfiguration {
+
+    @Bean
+    public FlightArchiver flightArchiver(FlightRepository flightRepository, FlightArchiveProperties properties) {
+        return new FlightArchiver(flightRepository, properties, Clock.systemDefaultZone());
+    }
+}
@@ -0,0 +1,31 @@
+package com.tomboja.springdatajpa.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "flights.archive")
+public class FlightArchiveProperties {
+
+    /** Move old flights to flight_archive on a schedule. */
+    private boolean enabled = false;
+
+    /** Flights scheduled longer ago than this are archived. */
+    private Duration retention = Duration.ofDays(90);
+
+    /** Flights moved per transaction. */
+    private int chunkSize = 1000;
+
+    /** When the archiver runs, a Spring cron expression. */
+    private String cron = "0 0 3 * * *";
+}
@@ -0,0 +1,38 @@
+package com.tomboja.springdatajpa.archive;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.repository.PurgeResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Slf4j
+public class FlightArchiver {
+
+    private final FlightRepository flightRepository;
+    private final FlightArchiveProperties properties;
+    private final Clock clock;
+
+    public FlightArchiver(FlightRepository flightRepository, FlightArchiveProperties properties, Clock clock) {
+        this.flightRepository = flightRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${flights.archive.cron:0 0 3 * * *}")
+    public PurgeResult archive() {
+        final LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.getRetention());
+        final PurgeResult result = flightRepository.archiveScheduledBefore(cutoff, properties.getChunkSize());
+        log.info("Archived {} flights scheduled before {} in {} chunks, longest {} ms",
+                result.getDeleted(), cutoff, result.getChunks(), result.getLongestChunk().toMillis());
+        return result;
+    }
+}
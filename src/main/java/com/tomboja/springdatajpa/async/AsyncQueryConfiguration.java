@@ -0,0 +1,64 @@
+package com.tomboja.springdatajpa.async;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Slf4j
+@Configuration
+@EnableAsync
+@EnableConfigurationProperties(FlightQueryExecutorProperties.class)
+public class AsyncQueryConfiguration {
+
+    public static final String FLIGHT_QUERY_EXECUTOR = "flightQueryExecutor";
+
+    @Bean(FLIGHT_QUERY_EXECUTOR)
+    public Executor flightQueryExecutor(FlightQueryExecutorProperties properties,
+                                        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        // Every query holds a connection, a fan out as wide as the pool would
+        // starve the request threads
+        if (properties.getMaxConcurrency() >= poolSize) {
+            throw new IllegalStateException("flights.async.max-concurrency (" + properties.getMaxConcurrency()
+                    + ") must be lower than the connection pool size (" + poolSize + ")");
+        }
+        if (properties.isVirtualThreads()) {
+            final ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+            if (virtualThreads != null) {
+                return new BoundedExecutor(virtualThreads, properties.getMaxConcurrency());
+            }
+            log.warn("Virtual threads are not available on Java {}, using a platform thread pool",
+                    System.getProperty("java.version"));
+        }
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("flight-query-");
+        executor.setCorePoolSize(properties.getMaxConcurrency());
+        executor.setMaxPoolSize(properties.getMaxConcurrency());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // Looked up reflectively, the project still compiles for Java 11
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
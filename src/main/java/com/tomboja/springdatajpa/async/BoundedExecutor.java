@@ -0,0 +1,44 @@
+package com.tomboja.springdatajpa.async;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Lets at most {@code permits} tasks run at once on an unbounded executor.
+ * Tasks wait for a permit on their own thread, which is cheap on virtual threads.
+ */
+
+public class BoundedExecutor implements Executor {
+
+    private final Executor delegate;
+    private final Semaphore permits;
+
+    public BoundedExecutor(Executor delegate, int permits) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(permits, true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        delegate.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    // Picked up as the bean destroy method
+    public void shutdown() {
+        if (delegate instanceof ExecutorService) {
+            ((ExecutorService) delegate).shutdown();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.tomboja.springdatajpa.async;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "flights.async")
+public class FlightQueryExecutorProperties {
+
+    /** Queries running at the same time, must stay below the connection pool size. */
+    private int maxConcurrency = 8;
+
+    /** Queries waiting for a free slot before new ones are rejected (platform threads only). */
+    private int queueCapacity = 500;
+
+    /** Run queries on virtual threads when the JDK has them (JDK 21+). */
+    private boolean virtualThreads = false;
+}
@@ -0,0 +1,27 @@
+package com.tomboja.springdatajpa.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class CacheRegionStats {
+    private final String region;
+    private final long hits;
+    private final long misses;
+    private final long puts;
+    private final long elementsInMemory;
+
+    public double getHitRatio() {
+        final long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
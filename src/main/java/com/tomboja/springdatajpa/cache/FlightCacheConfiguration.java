@@ -0,0 +1,36 @@
+package com.tomboja.springdatajpa.cache;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Configuration
+public class FlightCacheConfiguration {
+
+    // Built here rather than from hibernate.javax.cache.uri so the Ehcache
+    // configuration is resolved like any other Spring resource
+    @Bean(destroyMethod = "close")
+    public CacheManager flightCacheManager(@Value("${flights.cache.config}") Resource config) throws IOException {
+        return Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+                .getCacheManager(config.getURI(), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer flightCacheManagerCustomizer(CacheManager flightCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, flightCacheManager);
+    }
+}
@@ -0,0 +1,36 @@
+package com.tomboja.springdatajpa.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Publishes the Flight cache hit ratios next to the raw hibernate.* counters.
+ */
+
+@Component
+public class FlightCacheMetrics implements MeterBinder {
+
+    private final FlightCacheStatistics cacheStatistics;
+
+    public FlightCacheMetrics(FlightCacheStatistics cacheStatistics) {
+        this.cacheStatistics = cacheStatistics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("flights.cache.hit.ratio", cacheStatistics, stats -> stats.entities().getHitRatio())
+                .tag("region", "entities")
+                .description("Share of Flight lookups by id served from the second-level cache")
+                .register(registry);
+        Gauge.builder("flights.cache.hit.ratio", cacheStatistics, stats -> stats.queries().getHitRatio())
+                .tag("region", "queries")
+                .description("Share of cacheable hub lookups served from the query cache")
+                .register(registry);
+    }
+}
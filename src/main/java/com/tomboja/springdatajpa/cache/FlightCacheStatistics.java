@@ -0,0 +1,51 @@
+package com.tomboja.springdatajpa.cache;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Hit and miss counts of the Flight cache regions, used to size them in
+ * ehcache.xml. Counts are cumulative since start up.
+ */
+
+@Component
+public class FlightCacheStatistics {
+
+    private final Statistics statistics;
+
+    public FlightCacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /** Flight entities looked up by id. */
+    public CacheRegionStats entities() {
+        return toStats(Flight.class.getName(), statistics.getDomainDataRegionStatistics(Flight.class.getName()));
+    }
+
+    /** Cached results of the hub lookups in FlightRepository. */
+    public CacheRegionStats queries() {
+        return toStats(FlightRepository.FLIGHT_QUERY_REGION,
+                statistics.getQueryRegionStatistics(FlightRepository.FLIGHT_QUERY_REGION));
+    }
+
+    private CacheRegionStats toStats(String region, CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return new CacheRegionStats(region, 0, 0, 0, 0);
+        }
+        return new CacheRegionStats(region,
+                regionStatistics.getHitCount(),
+                regionStatistics.getMissCount(),
+                regionStatistics.getPutCount(),
+                regionStatistics.getElementCountInMemory());
+    }
+}
@@ -0,0 +1,11 @@
+package com.tomboja.springdatajpa.changes;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public enum ChangeType {
+    INSERT, UPDATE, DELETE
+}
@@ -0,0 +1,33 @@
+package com.tomboja.springdatajpa.changes;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * One row written to, rewritten in or deleted from the flight table. The
+ * flight fields hold the row after an insert or update and the row as it
+ * was before a delete. An update also carries the route the flight had before.
+ */
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class FlightChange {
+    private final long sequence;
+    private final ChangeType type;
+    private final long flightId;
+    private final String origin;
+    private final String destination;
+    private final LocalDateTime scheduledAt;
+    private final Long version;
+    private final LocalDateTime recordedAt;
+    private final String previousOrigin;
+    private final String previousDestination;
+}
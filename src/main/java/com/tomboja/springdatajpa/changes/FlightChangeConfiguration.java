@@ -0,0 +1,39 @@
+package com.tomboja.springdatajpa.changes;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "flights.changes.enabled", havingValue = "true")
+@EnableConfigurationProperties(FlightChangeProperties.class)
+public class FlightChangeConfiguration {
+
+    // The trigger goes on the flight table Hibernate creates
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public FlightChangeLog flightChangeLog(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        final FlightChangeLog changeLog = new FlightChangeLog(dataSource, transactionManager);
+        changeLog.install();
+        return changeLog;
+    }
+
+    @Bean(destroyMethod = "close")
+    public FlightChangeFeed flightChangeFeed(FlightChangeLog flightChangeLog, FlightChangeProperties properties) {
+        return new FlightChangeFeed(flightChangeLog, properties, Clock.systemDefaultZone());
+    }
+}
@@ -0,0 +1,109 @@
+package com.tomboja.springdatajpa.changes;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Delivers the change log to in-process subscribers, every pollInterval and
+ * in batches of up to batchSize changes in sequence order. A batch counts as
+ * delivered once the consumer returns; when it throws, the same changes come
+ * again next round. Consumers see each change at least once and should
+ * apply them idempotently, by flight id and version.
+ */
+
+@Slf4j
+public class FlightChangeFeed implements AutoCloseable {
+
+    private final FlightChangeLog changeLog;
+    private final FlightChangeProperties properties;
+    private final Clock clock;
+    private final List<FlightChangeSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("flight-changes-"));
+
+    public FlightChangeFeed(FlightChangeLog changeLog, FlightChangeProperties properties, Clock clock) {
+        this.changeLog = changeLog;
+        this.properties = properties;
+        this.clock = clock;
+        final long interval = properties.getPollInterval().toMillis();
+        poller.scheduleWithFixedDelay(this::dispatch, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /** Delivers the changes logged after sequence, then every later one. */
+    public FlightChangeSubscription subscribe(long sequence, Consumer<List<FlightChange>> consumer) {
+        final FlightChangeSubscription subscription = new FlightChangeSubscription(sequence, consumer);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /** Delivers the changes committed from now on. */
+    public FlightChangeSubscription subscribe(Consumer<List<FlightChange>> consumer) {
+        return subscribe(changeLog.sequence(), consumer);
+    }
+
+    /**
+     * One round of deliveries, the poller runs them every pollInterval: the
+     * changes committed since the last round are numbered, in a read-write
+     * transaction of their own, then read.
+     */
+    public synchronized void dispatch() {
+        subscriptions.removeIf(FlightChangeSubscription::isCancelled);
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        try {
+            changeLog.sequence();
+        } catch (RuntimeException e) {
+            // Another sequencer holding the lock past the timeout, say a route summary rebuild
+            log.warn("Could not number flight changes, retrying next round", e);
+            return;
+        }
+        for (FlightChangeSubscription subscription : subscriptions) {
+            try {
+                deliver(subscription);
+            } catch (RuntimeException e) {
+                log.warn("Flight change consumer failed after sequence {}, retrying next round",
+                        subscription.getPosition(), e);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${flights.changes.prune-cron:0 30 3 * * *}")
+    public int prune() {
+        final LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.getRetention());
+        final int deleted = changeLog.deleteRecordedBefore(cutoff);
+        log.info("Pruned {} flight changes recorded before {}", deleted, cutoff);
+        return deleted;
+    }
+
+    @Override
+    public void close() {
+        poller.shutdownNow();
+    }
+
+    private void deliver(FlightChangeSubscription subscription) {
+        FlightChangePage page;
+        do {
+            page = changeLog.findChangesAfter(subscription.getPosition(), properties.getBatchSize());
+            if (page.getChanges().isEmpty() || subscription.isCancelled()) {
+                return;
+            }
+            subscription.getConsumer().accept(page.getChanges());
+            subscription.advance(page.getLastSequence());
+        } while (page.isMore());
+    }
+}
@@ -0,0 +1,142 @@
+package com.tomboja.springdatajpa.changes;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * The flight_change table, filled by {@link FlightChangeTrigger}, read by
+ * sequence. The trigger logs changes without a sequence: {@link #sequence()}
+ * numbers them once committed, in the order they were logged, by one sequencer at a
+ * time across every application instance, the one holding the lock on the
+ * flight_change_sequencer row. A change only becomes readable with a sequence above every one
+ * handed out before it, so readers never pass a change still to commit,
+ * however long its transaction runs. Sequences of a numbering that rolled
+ * back are never used, readers step over them. Reads only see changes
+ * numbered already and write nothing, a replica can serve them.
+ */
+
+public class FlightChangeLog {
+
+    private static final String TRIGGER = "flight_change_capture";
+
+    // Changes numbered per statement, bounding the ids held at a time
+    private static final int SEQUENCE_CHUNK = 10_000;
+
+    private static final String[] SCHEMA = {
+            "create table if not exists flight_change ("
+                    + "id bigint not null primary key, "
+                    + "seq bigint, "
+                    + "change_type varchar(6) not null, "
+                    + "flight_id bigint not null, "
+                    + "origin varchar(255), "
+                    + "destination varchar(255), "
+                    + "scheduled_at timestamp, "
+                    + "version bigint, "
+                    + "recorded_at timestamp not null, "
+                    + "previous_origin varchar(255), "
+                    + "previous_destination varchar(255))",
+            // Unnumbered changes first, then by sequence
+            "create index if not exists idx_flight_change_seq on flight_change (seq, id)",
+            "create index if not exists idx_flight_change_recorded_at on flight_change (recorded_at)",
+            "create sequence if not exists flight_change_id_seq start with 1 increment by 1",
+            "create sequence if not exists flight_change_seq start with 1 increment by 1",
+            // Its row lock serializes numbering
+            "create table if not exists flight_change_sequencer (id int not null primary key)",
+            "merge into flight_change_sequencer key (id) values (1)",
+            "create trigger if not exists " + TRIGGER + " after insert, update, delete on flight "
+                    + "for each row call \"" + FlightChangeTrigger.class.getName() + "\""};
+
+    private static final String SELECT = "select seq, change_type, flight_id, origin, destination, scheduled_at, "
+            + "version, recorded_at, previous_origin, previous_destination from flight_change ";
+
+    private static final RowMapper<FlightChange> MAPPER = (rs, rowNum) -> new FlightChange(
+            rs.getLong("seq"),
+            ChangeType.valueOf(rs.getString("change_type")),
+            rs.getLong("flight_id"),
+            rs.getString("origin"),
+            rs.getString("destination"),
+            rs.getObject("scheduled_at", LocalDateTime.class),
+            rs.getObject("version", Long.class),
+            rs.getObject("recorded_at", LocalDateTime.class),
+            rs.getString("previous_origin"),
+            rs.getString("previous_destination"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public FlightChangeLog(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** Creates the table and the trigger, once the flight table exists. */
+    public void install() {
+        for (String statement : SCHEMA) {
+            jdbcTemplate.execute(statement);
+        }
+    }
+
+    /**
+     * Numbers the committed changes that have no sequence yet and returns
+     * the latest sequence, 0 while there is none. Inside a transaction it
+     * numbers the changes that transaction sees and keeps every other
+     * sequencer waiting until it ends, past H2's lock timeout they fail.
+     */
+    public long sequence() {
+        final Long latest = transactionTemplate.execute(status -> number());
+        return latest == null ? 0 : latest;
+    }
+
+    private long number() {
+        jdbcTemplate.queryForList("select id from flight_change_sequencer where id = 1 for update", Long.class);
+        List<Long> ids;
+        do {
+            // Uncommitted changes are not visible here, they are numbered once they are
+            ids = jdbcTemplate.queryForList("select id from flight_change where seq is null order by id limit ?",
+                    Long.class, SEQUENCE_CHUNK);
+            jdbcTemplate.batchUpdate("update flight_change set seq = next value for flight_change_seq where id = ?",
+                    ids, ids.size(), (statement, id) -> statement.setLong(1, id));
+        } while (ids.size() == SEQUENCE_CHUNK);
+        // Not a bare max(seq): H2 1.4.200 answers that from the index as last
+        // committed, missing the numbering above inside a repeatable read or
+        // serializable transaction, like RouteSummary's rebuild
+        final Long latest = jdbcTemplate.queryForObject(
+                "select max(seq) from flight_change where seq is not null", Long.class);
+        return latest == null ? 0 : latest;
+    }
+
+    /** Up to limit changes numbered after sequence, in sequence order. */
+    public FlightChangePage findChangesAfter(long sequence, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least one");
+        }
+        // One row more tells whether there is a next page
+        final List<FlightChange> rows = jdbcTemplate.query(SELECT + "where seq > ? order by seq limit ?", MAPPER,
+                sequence, limit + 1);
+        final List<FlightChange> changes = rows.size() > limit ? rows.subList(0, limit) : rows;
+        final long last = changes.isEmpty() ? sequence : changes.get(changes.size() - 1).getSequence();
+        return new FlightChangePage(changes, last, rows.size() > limit);
+    }
+
+    /** Sequence of the latest change numbered, 0 while there is none. */
+    public long latestSequence() {
+        final Long latest = jdbcTemplate.queryForObject(
+                "select max(seq) from flight_change where seq is not null", Long.class);
+        return latest == null ? 0 : latest;
+    }
+
+    /** Deletes changes recorded before cutoff, readers behind them skip them. */
+    public int deleteRecordedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("delete from flight_change where recorded_at < ?", cutoff);
+    }
+}
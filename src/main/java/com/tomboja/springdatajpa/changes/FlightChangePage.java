@@ -0,0 +1,26 @@
+package com.tomboja.springdatajpa.changes;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class FlightChangePage {
+    private final List<FlightChange> changes;
+
+    /** Sequence of the last change on the page, the one to read the next page after. */
+    private final long lastSequence;
+
+    /** Whether changes after lastSequence are already logged. */
+    private final boolean more;
+}
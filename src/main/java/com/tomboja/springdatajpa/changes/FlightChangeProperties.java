@@ -0,0 +1,28 @@
+package com.tomboja.springdatajpa.changes;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "flights.changes")
+public class FlightChangeProperties {
+
+    /** Changes handed to a subscriber at a time. */
+    private int batchSize = 500;
+
+    /** How often subscribers are sent what was logged since. */
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /** How long changes are kept. */
+    private Duration retention = Duration.ofDays(7);
+}
@@ -0,0 +1,44 @@
+package com.tomboja.springdatajpa.changes;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class FlightChangeSubscription {
+
+    private final Consumer<List<FlightChange>> consumer;
+    private volatile long position;
+    private volatile boolean cancelled;
+
+    FlightChangeSubscription(long position, Consumer<List<FlightChange>> consumer) {
+        this.position = position;
+        this.consumer = consumer;
+    }
+
+    /** Sequence of the last change delivered, where a restarted consumer would resume. */
+    public long getPosition() {
+        return position;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** No batch is delivered after the one in progress. */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    Consumer<List<FlightChange>> getConsumer() {
+        return consumer;
+    }
+
+    void advance(long position) {
+        this.position = position;
+    }
+}
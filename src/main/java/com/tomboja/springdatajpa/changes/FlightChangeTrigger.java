@@ -0,0 +1,101 @@
+package com.tomboja.springdatajpa.changes;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Row trigger on flight appending to flight_change. It runs inside the
+ * statement that changed the row, on its connection, so the change commits
+ * or rolls back with it whichever path wrote the row: entity flushes,
+ * native and bulk statements, JDBC batches or R2DBC. Changes are logged
+ * unnumbered, {@link FlightChangeLog} numbers them once they commit.
+ */
+
+public class FlightChangeTrigger implements Trigger {
+
+    private static final String INSERT = "insert into flight_change "
+            + "(id, change_type, flight_id, origin, destination, scheduled_at, version, recorded_at, "
+            + "previous_origin, previous_destination) "
+            + "values (next value for flight_change_id_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private int id = -1;
+    private int origin = -1;
+    private int destination = -1;
+    private int scheduledAt = -1;
+    private int version = -1;
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName, boolean before,
+                     int type) throws SQLException {
+        // Rows come as arrays in column order, which is up to whoever created the table
+        try (ResultSet columns = conn.getMetaData().getColumns(null, schemaName, tableName, null)) {
+            while (columns.next()) {
+                final int index = columns.getInt("ORDINAL_POSITION") - 1;
+                switch (columns.getString("COLUMN_NAME").toLowerCase(Locale.ROOT)) {
+                    case "id":
+                        id = index;
+                        break;
+                    case "origin":
+                        origin = index;
+                        break;
+                    case "destination":
+                        destination = index;
+                        break;
+                    case "scheduled_at":
+                        scheduledAt = index;
+                        break;
+                    case "version":
+                        version = index;
+                        break;
+                    default:
+                }
+            }
+        }
+        if (id < 0) {
+            throw new SQLException("No id column in " + tableName);
+        }
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        final ChangeType type = oldRow == null ? ChangeType.INSERT
+                : newRow == null ? ChangeType.DELETE : ChangeType.UPDATE;
+        final Object[] row = newRow == null ? oldRow : newRow;
+        try (PreparedStatement statement = conn.prepareStatement(INSERT)) {
+            statement.setString(1, type.name());
+            statement.setObject(2, row[id]);
+            statement.setObject(3, value(row, origin));
+            statement.setObject(4, value(row, destination));
+            statement.setObject(5, value(row, scheduledAt));
+            statement.setObject(6, value(row, version));
+            statement.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now()));
+            final boolean update = type == ChangeType.UPDATE;
+            statement.setObject(8, update ? value(oldRow, origin) : null);
+            statement.setObject(9, update ? value(oldRow, destination) : null);
+            statement.executeUpdate();
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void remove() {
+    }
+
+    private static Object value(Object[] row, int index) {
+        return index < 0 ? null : row[index];
+    }
+}
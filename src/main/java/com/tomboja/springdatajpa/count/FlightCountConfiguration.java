@@ -0,0 +1,28 @@
+package com.tomboja.springdatajpa.count;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Configuration
+@EnableConfigurationProperties(FlightCountProperties.class)
+public class FlightCountConfiguration {
+
+    @Bean
+    public FlightCounts flightCounts(DataSource dataSource, EntityManagerFactory entityManagerFactory,
+                                     FlightCountProperties properties) {
+        final FlightCounts counts = new FlightCounts(dataSource, properties.getMaxAge(), Clock.systemUTC());
+        counts.register(entityManagerFactory);
+        return counts;
+    }
+}
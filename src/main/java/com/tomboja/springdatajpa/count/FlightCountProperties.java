@@ -0,0 +1,22 @@
+package com.tomboja.springdatajpa.count;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "flights.count")
+public class FlightCountProperties {
+
+    /** How long a counted total is kept up to date from writes before it is counted again. */
+    private Duration maxAge = Duration.ofMinutes(1);
+}
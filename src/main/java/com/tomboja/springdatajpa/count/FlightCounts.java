@@ -0,0 +1,162 @@
+package com.tomboja.springdatajpa.count;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.FlightCommitListener;
+import com.tomboja.springdatajpa.repository.FlightsDeletedEvent;
+import com.tomboja.springdatajpa.repository.FlightsUpsertedEvent;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Flight counts for page totals, per origin and overall. A count is queried
+ * once, then moved along by committed entity inserts, updates and deletes,
+ * and queried again after maxAge or after a bulk write. Writes it cannot see
+ * (other instances, SQL run around the repository) and writes committing
+ * while a count is queried make it approximate until then.
+ */
+
+public class FlightCounts extends FlightCommitListener {
+
+    // ConcurrentHashMap takes no null keys, the overall count and the
+    // flights without origin get keys of their own
+    private static final Object ALL = new Object();
+    private static final Object NO_ORIGIN = new Object();
+
+    private final Map<Object, Counter> counters = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    public FlightCounts(DataSource dataSource, Duration maxAge, Clock clock) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    public long count(String origin) {
+        return counter(key(origin)).get();
+    }
+
+    public long countAll() {
+        return counter(ALL).get();
+    }
+
+    /** Drops every count, the next page totals are queried again. */
+    public void clear() {
+        counters.clear();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Flight) {
+            add(((Flight) event.getEntity()).getOrigin(), 1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Flight) {
+            if (event.getOldState() == null) {
+                // Updated without a snapshot, where the flight came from is unknown
+                clear();
+                return;
+            }
+            final String origin = ((Flight) event.getEntity()).getOrigin();
+            final String previous = previousOrigin(event);
+            if (!Objects.equals(previous, origin)) {
+                adjust(key(previous), -1);
+                adjust(key(origin), 1);
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Flight) {
+            add(((Flight) event.getEntity()).getOrigin(), -1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFlightsDeleted(FlightsDeletedEvent event) {
+        if (event.getOrigin() != null) {
+            counters.remove(event.getOrigin());
+            counters.remove(ALL);
+        } else {
+            clear();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onFlightsUpserted(FlightsUpsertedEvent event) {
+        clear();
+    }
+
+    private void add(String origin, long delta) {
+        adjust(key(origin), delta);
+        adjust(ALL, delta);
+    }
+
+    // Counts nobody asked for are not started from a write
+    private void adjust(Object key, long delta) {
+        final Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count.addAndGet(delta);
+        }
+    }
+
+    private AtomicLong counter(Object key) {
+        final long now = clock.millis();
+        final Counter current = counters.get(key);
+        if (current != null && now - current.loadedAt <= maxAge.toMillis()) {
+            return current.count;
+        }
+        // Queried outside the map, which would keep the key's bin locked for
+        // the round trip. A counter another caller stored meanwhile wins
+        final Counter loaded = new Counter(query(key), now);
+        final Counter stored = current == null ? counters.putIfAbsent(key, loaded)
+                : counters.replace(key, current, loaded) ? null : counters.get(key);
+        return stored != null ? stored.count : loaded.count;
+    }
+
+    private long query(Object key) {
+        final Long count;
+        if (key == ALL) {
+            count = jdbcTemplate.queryForObject("select count(*) from flight", Long.class);
+        } else if (key == NO_ORIGIN) {
+            count = jdbcTemplate.queryForObject("select count(*) from flight where origin is null", Long.class);
+        } else {
+            count = jdbcTemplate.queryForObject("select count(*) from flight where origin = ?", Long.class, key);
+        }
+        return count == null ? 0 : count;
+    }
+
+    private static Object key(String origin) {
+        return origin == null ? NO_ORIGIN : origin;
+    }
+
+    private static final class Counter {
+        private final AtomicLong count;
+        private final long loadedAt;
+
+        Counter(long count, long loadedAt) {
+            this.count = new AtomicLong(count);
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.tomboja.springdatajpa.index;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Interns airport codes into dense ints, each code is stored once no matter
+ * how many flights use it. Codes are never released.
+ */
+
+final class AirportCodes {
+
+    static final int NONE = -1;
+
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[64];
+    private int size;
+
+    int intern(String name) {
+        if (name == null) {
+            return NONE;
+        }
+        final Integer code = codes.get(name);
+        return code != null ? code : add(name);
+    }
+
+    /** The code of an airport already seen, {@link #NONE} otherwise. */
+    int find(String name) {
+        if (name == null) {
+            return NONE;
+        }
+        final Integer code = codes.get(name);
+        return code != null ? code : NONE;
+    }
+
+    String name(int code) {
+        return code == NONE ? null : names[code];
+    }
+
+    int size() {
+        return codes.size();
+    }
+
+    private synchronized int add(String name) {
+        final Integer existing = codes.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+        }
+        // The name is published before the code, readers never see an unset slot
+        names[size] = name;
+        codes.put(name, size);
+        return size++;
+    }
+}
@@ -0,0 +1,274 @@
+package com.tomboja.springdatajpa.index;
+
+import com.tomboja.springdatajpa.Flight;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Read-side copy of the flight table for lookups that cannot afford a
+ * database round trip. Airport codes are interned to ints and every origin
+ * keeps its flights in primitive columns sorted by scheduledAt, stored as
+ * epoch microseconds (the precision of the scheduled_at column). Lookups
+ * return new, detached Flight instances carrying the version they were
+ * indexed at.
+ *
+ * A reload builds new contents off to the side while lookups keep being
+ * answered from the current ones. Changes applied meanwhile go to both: to
+ * the current contents right away, to the new ones when they are swapped
+ * in. Every change can be applied twice, flights are put by id and version.
+ */
+
+public class FlightIndex {
+
+    // Read locked by changes, write locked to swap in reloaded contents
+    private final ReadWriteLock swap = new ReentrantReadWriteLock();
+    private volatile Contents contents = new Contents();
+    private Queue<Consumer<Contents>> replay;
+    private volatile boolean ready;
+
+    /**
+     * Adds a flight, or replaces its copy held under its origin or one of
+     * previousOrigins unless that copy's version is at least as new.
+     */
+    public void put(Flight flight, Collection<String> previousOrigins) {
+        final long id = flight.getId();
+        final String origin = flight.getOrigin();
+        final String destination = flight.getDestination();
+        final LocalDateTime scheduledAt = flight.getScheduledAt();
+        final long version = flight.getVersion() == null ? 0 : flight.getVersion();
+        apply(target -> target.put(id, origin, destination, scheduledAt, version, previousOrigins));
+    }
+
+    /** Removes a flight, from its previous origin when known, from any otherwise. */
+    public void remove(long id, String origin) {
+        apply(target -> target.remove(id, origin));
+    }
+
+    public void removeOrigin(String origin) {
+        apply(target -> target.removeOrigin(origin));
+    }
+
+    public void removeAll(Collection<Long> ids) {
+        final Set<Long> removed = new HashSet<>(ids);
+        apply(target -> target.removeAll(removed));
+    }
+
+    /** Replaces every flight of the origin by those supplied, read again for each contents. */
+    public void replaceOrigin(String origin, Supplier<List<Flight>> flights) {
+        apply(target -> target.replaceOrigin(origin, flights));
+    }
+
+    /** Origins spelled like the given one but for case, itself included. */
+    public List<String> originsIgnoringCase(String origin) {
+        return contents.originsIgnoringCase(origin);
+    }
+
+    public List<Flight> findByOrigin(String origin) {
+        return contents.find(origin, Long.MIN_VALUE, Long.MAX_VALUE, null, true);
+    }
+
+    public List<Flight> findFlightByOriginAndDestination(String origin, String destination) {
+        return contents.find(origin, Long.MIN_VALUE, Long.MAX_VALUE, destination, false);
+    }
+
+    /** Departures from origin scheduled in [from, until). */
+    public List<Flight> findByOriginScheduledBetween(String origin, LocalDateTime from, LocalDateTime until) {
+        return contents.find(origin, toMicros(from), toMicros(until), null, true);
+    }
+
+    public int size() {
+        return contents.size();
+    }
+
+    /** Bytes held by the flight columns, unused capacity included. */
+    public long footprintBytes() {
+        return contents.footprintBytes();
+    }
+
+    public double bytesPerFlight() {
+        final int size = size();
+        return size == 0 ? 0 : (double) footprintBytes() / size;
+    }
+
+    /** Whether the initial load finished and lookups can be answered. */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** Empty contents to load into, changes from now on are kept to replay on them. */
+    Contents startReload() {
+        swap.writeLock().lock();
+        try {
+            replay = new ConcurrentLinkedQueue<>();
+            return new Contents();
+        } finally {
+            swap.writeLock().unlock();
+        }
+    }
+
+    /** Replays the changes kept since startReload on the loaded contents and swaps them in. */
+    void finishReload(Contents loaded) {
+        swap.writeLock().lock();
+        try {
+            replay.forEach(change -> change.accept(loaded));
+            replay = null;
+            contents = loaded;
+            ready = true;
+        } finally {
+            swap.writeLock().unlock();
+        }
+    }
+
+    void abortReload() {
+        swap.writeLock().lock();
+        try {
+            replay = null;
+        } finally {
+            swap.writeLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Contents> change) {
+        swap.readLock().lock();
+        try {
+            change.accept(contents);
+            if (replay != null) {
+                replay.add(change);
+            }
+        } finally {
+            swap.readLock().unlock();
+        }
+    }
+
+    /** Airport codes and origin segments, one set per load. Changes to it are serialized. */
+    static final class Contents {
+        private final AirportCodes airports = new AirportCodes();
+        private final Map<Integer, OriginSegment> segments = new ConcurrentHashMap<>();
+
+        /** Appends a flight the index does not hold yet, as a load does. */
+        void add(long id, String origin, String destination, LocalDateTime scheduledAt, long version) {
+            segments.computeIfAbsent(airports.intern(origin), code -> new OriginSegment())
+                    .add(id, airports.intern(destination), toMicros(scheduledAt), version);
+        }
+
+        synchronized void put(long id, String origin, String destination, LocalDateTime scheduledAt,
+                              long version, Collection<String> previousOrigins) {
+            final List<OriginSegment> holders = new ArrayList<>(previousOrigins.size() + 1);
+            addSegment(holders, origin);
+            previousOrigins.forEach(previous -> addSegment(holders, previous));
+            for (OriginSegment holder : holders) {
+                if (holder.version(id) >= version) {
+                    return;
+                }
+            }
+            holders.forEach(holder -> holder.removeIf(candidate -> candidate == id));
+            add(id, origin, destination, scheduledAt, version);
+        }
+
+        synchronized void remove(long id, String origin) {
+            if (origin != null) {
+                final OriginSegment segment = segments.get(airports.find(origin));
+                if (segment != null && segment.removeIf(candidate -> candidate == id) > 0) {
+                    return;
+                }
+            }
+            segments.values().forEach(segment -> segment.removeIf(candidate -> candidate == id));
+        }
+
+        synchronized void removeOrigin(String origin) {
+            segments.remove(airports.find(origin));
+        }
+
+        synchronized void removeAll(Set<Long> ids) {
+            segments.values().forEach(segment -> segment.removeIf(ids::contains));
+        }
+
+        // Read while no other change runs, a flight put meanwhile is no newer than what was read
+        synchronized void replaceOrigin(String origin, Supplier<List<Flight>> flights) {
+            final List<Flight> replacements = flights.get();
+            removeOrigin(origin);
+            for (Flight flight : replacements) {
+                add(flight.getId(), origin, flight.getDestination(), flight.getScheduledAt(),
+                        flight.getVersion() == null ? 0 : flight.getVersion());
+            }
+        }
+
+        List<String> originsIgnoringCase(String origin) {
+            final List<String> origins = new ArrayList<>();
+            for (int code = 0; code < airports.size(); code++) {
+                final String name = airports.name(code);
+                if (name.equalsIgnoreCase(origin) && segments.containsKey(code)) {
+                    origins.add(name);
+                }
+            }
+            return origins;
+        }
+
+        List<Flight> find(String origin, long from, long until, String destination, boolean anyDestination) {
+            final OriginSegment segment = segments.get(airports.find(origin));
+            if (segment == null) {
+                return new ArrayList<>();
+            }
+            final int destinationCode = anyDestination ? AirportCodes.NONE : airports.find(destination);
+            if (!anyDestination && destinationCode == AirportCodes.NONE && destination != null) {
+                return new ArrayList<>();
+            }
+            final List<Flight> flights = new ArrayList<>();
+            segment.scan(from, until, destinationCode, anyDestination, (id, to, at, version) -> {
+                final Flight flight = new Flight(id, origin, airports.name(to), fromMicros(at));
+                // Carried so that saving a returned flight is version checked
+                flight.setVersion(version);
+                flights.add(flight);
+            });
+            return flights;
+        }
+
+        int size() {
+            return segments.values().stream().mapToInt(OriginSegment::size).sum();
+        }
+
+        long footprintBytes() {
+            return segments.values().stream().mapToLong(OriginSegment::footprintBytes).sum();
+        }
+
+        private void addSegment(List<OriginSegment> holders, String origin) {
+            final OriginSegment segment = segments.get(airports.find(origin));
+            if (segment != null && !holders.contains(segment)) {
+                holders.add(segment);
+            }
+        }
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        if (time == null) {
+            return Long.MIN_VALUE;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        if (micros == Long.MIN_VALUE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
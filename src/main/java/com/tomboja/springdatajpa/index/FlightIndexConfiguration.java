@@ -0,0 +1,125 @@
+package com.tomboja.springdatajpa.index;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * With flights.index.enabled=true the flight table is loaded into a
+ * {@link FlightIndex} at start up, kept current from committed writes, and
+ * FlightRepository#findByOrigin(String) and #findFlightByOriginAndDestination
+ * are answered from it.
+ */
+
+@Configuration
+@ConditionalOnProperty(name = "flights.index.enabled", havingValue = "true")
+public class FlightIndexConfiguration {
+
+    @Bean
+    public FlightIndex flightIndex() {
+        return new FlightIndex();
+    }
+
+    @Bean
+    public FlightIndexMaintainer flightIndexMaintainer(FlightIndex flightIndex, EntityManagerFactory entityManagerFactory) {
+        final FlightIndexMaintainer maintainer = new FlightIndexMaintainer(flightIndex);
+        maintainer.register(entityManagerFactory);
+        return maintainer;
+    }
+
+    // Takes the maintainer so that it listens before the load starts
+    @Bean
+    public FlightIndexLoader flightIndexLoader(FlightIndex flightIndex, FlightIndexMaintainer maintainer,
+                                               DataSource dataSource,
+                                               @Value("${flights.stream.fetch-size:1000}") int fetchSize) {
+        return new FlightIndexLoader(flightIndex, dataSource, fetchSize);
+    }
+
+    @Bean
+    public MeterBinder flightIndexMetrics(FlightIndex flightIndex) {
+        return registry -> {
+            Gauge.builder("flights.index.flights", flightIndex, FlightIndex::size)
+                    .description("Flights held by the in-memory flight index")
+                    .register(registry);
+            Gauge.builder("flights.index.bytes", flightIndex, FlightIndex::footprintBytes)
+                    .baseUnit("bytes")
+                    .description("Memory taken by the flight columns of the index")
+                    .register(registry);
+            Gauge.builder("flights.index.bytes.per.flight", flightIndex, FlightIndex::bytesPerFlight)
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor flightIndexRoutingPostProcessor(ObjectProvider<FlightIndex> flightIndex) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport) {
+                    ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> {
+                                if (FlightRepository.class.equals(repositoryInformation.getRepositoryInterface())) {
+                                    // Ahead of the transaction interceptor, index hits open no transaction
+                                    proxyFactory.addAdvice(0, indexLookup(flightIndex));
+                                }
+                            }));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static MethodInterceptor indexLookup(ObjectProvider<FlightIndex> flightIndexProvider) {
+        return invocation -> {
+            final FlightIndex index = flightIndexProvider.getIfAvailable();
+            if (index == null || !index.isReady() || !outsideReadWriteTransaction()) {
+                return invocation.proceed();
+            }
+            final Method method = invocation.getMethod();
+            final Object[] arguments = invocation.getArguments();
+            if (isLookup(method, "findByOrigin", 1)) {
+                return index.findByOrigin((String) arguments[0]);
+            }
+            if (isLookup(method, "findFlightByOriginAndDestination", 2)) {
+                return index.findFlightByOriginAndDestination((String) arguments[0], (String) arguments[1]);
+            }
+            return invocation.proceed();
+        };
+    }
+
+    // A read-write transaction may hold uncommitted flights the index cannot see yet
+    private static boolean outsideReadWriteTransaction() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static boolean isLookup(Method method, String name, int stringParameters) {
+        if (!method.getName().equals(name) || method.getParameterCount() != stringParameters) {
+            return false;
+        }
+        for (Class<?> type : method.getParameterTypes()) {
+            if (type != String.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
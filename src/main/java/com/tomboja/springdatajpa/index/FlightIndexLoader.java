@@ -0,0 +1,104 @@
+package com.tomboja.springdatajpa.index;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.repository.FlightsRescheduledEvent;
+import com.tomboja.springdatajpa.repository.FlightsUpsertedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Fills the {@link FlightIndex} from the flight table once every singleton
+ * exists, before the application takes traffic, and reads back the flights
+ * of bulk writes the index cannot work out from their events. The
+ * maintainer is already listening by then, writes committed during a load
+ * are replayed on the loaded contents.
+ */
+
+@Slf4j
+public class FlightIndexLoader implements SmartInitializingSingleton {
+
+    private static final String SELECT = "select id, origin, destination, scheduled_at, version from flight ";
+
+    private static final String NATURAL_KEY = "origin_upper is not distinct from ? "
+            + "and destination is not distinct from ? and scheduled_at is not distinct from ?";
+
+    private static final RowMapper<Flight> MAPPER = (row, rowNum) -> {
+        final Timestamp scheduledAt = row.getTimestamp(4);
+        final Flight flight = new Flight(row.getLong(1), row.getString(2), row.getString(3),
+                scheduledAt == null ? null : scheduledAt.toLocalDateTime());
+        flight.setVersion(row.getLong(5));
+        return flight;
+    };
+
+    private final FlightIndex index;
+    private final JdbcTemplate jdbcTemplate;
+
+    public FlightIndexLoader(FlightIndex index, DataSource dataSource, int fetchSize) {
+        this.index = index;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    // upsertAll does not know the ids of the flights it inserted, they are
+    // found by natural key. An update may have changed the origin's case
+    @TransactionalEventListener
+    public void onFlightsUpserted(FlightsUpsertedEvent event) {
+        for (Flight upserted : event.getFlights()) {
+            final List<Flight> stored = jdbcTemplate.query(SELECT + "where " + NATURAL_KEY, MAPPER,
+                    Flight.normalizeOrigin(upserted.getOrigin()), upserted.getDestination(),
+                    upserted.getScheduledAt() == null ? null : Timestamp.valueOf(upserted.getScheduledAt()));
+            for (Flight flight : stored) {
+                index.put(flight, index.originsIgnoringCase(flight.getOrigin()));
+            }
+        }
+    }
+
+    // Shifting the indexed copies again would count a reschedule twice when
+    // a load already read it, the origin is read back instead
+    @TransactionalEventListener
+    public void onFlightsRescheduled(FlightsRescheduledEvent event) {
+        final String origin = event.getOrigin();
+        index.replaceOrigin(origin, () -> jdbcTemplate.query(SELECT + "where origin = ? order by scheduled_at, id",
+                MAPPER, origin));
+    }
+
+    /**
+     * Rebuilds the index from the table, e.g. after rows were loaded around
+     * the repository. Lookups are answered from the previous contents until
+     * the new ones are swapped in, from the database before the first load.
+     */
+    public synchronized void load() {
+        final long started = System.nanoTime();
+        final FlightIndex.Contents loaded = index.startReload();
+        try {
+            // Origin order appends every row to the end of its segment
+            jdbcTemplate.query(SELECT + "order by origin, scheduled_at, id", row -> {
+                final Timestamp scheduledAt = row.getTimestamp(4);
+                loaded.add(row.getLong(1), row.getString(2), row.getString(3),
+                        scheduledAt == null ? null : scheduledAt.toLocalDateTime(), row.getLong(5));
+            });
+        } catch (RuntimeException e) {
+            index.abortReload();
+            throw e;
+        }
+        index.finishReload(loaded);
+        log.info("Indexed {} flights in {} ms, {} bytes per flight", index.size(),
+                (System.nanoTime() - started) / 1_000_000, Math.round(index.bytesPerFlight()));
+    }
+}
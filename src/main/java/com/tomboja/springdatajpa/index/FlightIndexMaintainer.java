@@ -0,0 +1,68 @@
+package com.tomboja.springdatajpa.index;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.FlightCommitListener;
+import com.tomboja.springdatajpa.repository.FlightsDeletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Applies committed writes to the {@link FlightIndex}: entity inserts,
+ * updates and deletes through Hibernate post-commit events, bulk deletes
+ * through {@link FlightsDeletedEvent}. Bulk writes the index needs to read
+ * back are {@link FlightIndexLoader}'s. Rolled back work never reaches the
+ * index.
+ */
+
+@Slf4j
+public class FlightIndexMaintainer extends FlightCommitListener {
+
+    private final FlightIndex index;
+
+    public FlightIndexMaintainer(FlightIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Flight) {
+            index.put((Flight) event.getEntity(), Collections.emptyList());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Flight) {
+            final String previousOrigin = previousOrigin(event);
+            index.put((Flight) event.getEntity(), previousOrigin == null
+                    ? Collections.emptyList() : Collections.singletonList(previousOrigin));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Flight) {
+            final Flight flight = (Flight) event.getEntity();
+            index.remove(flight.getId(), flight.getOrigin());
+        }
+    }
+
+    // fallbackExecution: deleteByOrigin may also run without a transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFlightsDeleted(FlightsDeletedEvent event) {
+        if (event.getOrigin() != null) {
+            index.removeOrigin(event.getOrigin());
+        } else {
+            index.removeAll(event.getIds());
+        }
+    }
+}
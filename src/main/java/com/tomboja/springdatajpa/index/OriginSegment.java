@@ -0,0 +1,153 @@
+package com.tomboja.springdatajpa.index;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * The flights of one origin as parallel primitive columns, sorted by
+ * scheduledAt then id. 28 bytes per flight plus unused capacity.
+ */
+
+final class OriginSegment {
+
+    static final int BYTES_PER_FLIGHT = Long.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Receives matching rows, in order, while the segment is read locked. */
+    interface RowConsumer {
+        void accept(long id, int destination, long scheduledAt, long version);
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long[] scheduledAt = new long[INITIAL_CAPACITY];
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] destinations = new int[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private int size;
+
+    void add(long id, int destination, long at, long version) {
+        lock.writeLock().lock();
+        try {
+            if (size == ids.length) {
+                final int capacity = size + (size >> 1);
+                scheduledAt = Arrays.copyOf(scheduledAt, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+                destinations = Arrays.copyOf(destinations, capacity);
+                versions = Arrays.copyOf(versions, capacity);
+            }
+            // Loads arrive in order and append, live inserts shift the tail
+            final int position = size == 0 || compare(size - 1, at, id) < 0 ? size : insertionPoint(at, id);
+            final int tail = size - position;
+            System.arraycopy(scheduledAt, position, scheduledAt, position + 1, tail);
+            System.arraycopy(ids, position, ids, position + 1, tail);
+            System.arraycopy(destinations, position, destinations, position + 1, tail);
+            System.arraycopy(versions, position, versions, position + 1, tail);
+            scheduledAt[position] = at;
+            ids[position] = id;
+            destinations[position] = destination;
+            versions[position] = version;
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Removes the flights whose id matches, returns how many went. */
+    int removeIf(LongPredicate id) {
+        lock.writeLock().lock();
+        try {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!id.test(ids[i])) {
+                    scheduledAt[kept] = scheduledAt[i];
+                    ids[kept] = ids[i];
+                    destinations[kept] = destinations[i];
+                    versions[kept] = versions[i];
+                    kept++;
+                }
+            }
+            final int removed = size - kept;
+            size = kept;
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Hands the flights scheduled in [from, until) to the consumer, only
+     * those going to destination unless it is {@code anyDestination}.
+     */
+    void scan(long from, long until, int destination, boolean anyDestination, RowConsumer consumer) {
+        lock.readLock().lock();
+        try {
+            for (int i = from == Long.MIN_VALUE ? 0 : insertionPoint(from, Long.MIN_VALUE);
+                 i < size && scheduledAt[i] < until; i++) {
+                if (anyDestination || destinations[i] == destination) {
+                    consumer.accept(ids[i], destinations[i], scheduledAt[i], versions[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Version of the flight with the given id, Long.MIN_VALUE when it is not here. */
+    long version(long id) {
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return versions[i];
+                }
+            }
+            return Long.MIN_VALUE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long footprintBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) ids.length * BYTES_PER_FLIGHT;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // First position whose (scheduledAt, id) is not below the given one
+    private int insertionPoint(long at, long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (compare(middle, at, id) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int position, long at, long id) {
+        final int byTime = Long.compare(scheduledAt[position], at);
+        return byTime != 0 ? byTime : Long.compare(ids[position], id);
+    }
+}
@@ -0,0 +1,50 @@
+package com.tomboja.springdatajpa.ingest;
+
+import com.tomboja.springdatajpa.count.FlightCounts;
+import com.tomboja.springdatajpa.index.FlightIndexLoader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Configuration
+@EnableConfigurationProperties(FlightImportProperties.class)
+public class FlightImportConfiguration {
+
+    @Bean
+    public FlightImporter flightImporter(FlightImportProperties properties, DataSource dataSource,
+                                         PlatformTransactionManager transactionManager,
+                                         EntityManagerFactory entityManagerFactory,
+                                         ObjectProvider<FlightIndexLoader> flightIndexLoader,
+                                         FlightCounts flightCounts,
+                                         ObjectProvider<MeterRegistry> meterRegistry,
+                                         @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        // Every writer holds a connection for as long as the import runs
+        if (properties.getWriters() >= poolSize) {
+            throw new IllegalStateException("flights.import.writers (" + properties.getWriters()
+                    + ") must be lower than the connection pool size (" + poolSize + ")");
+        }
+        return new FlightImporter(properties, dataSource, transactionManager, entityManagerFactory,
+                flightIndexLoader, flightCounts, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = FlightImportRunner.FILE_PROPERTY)
+    public FlightImportRunner flightImportRunner(FlightImporter flightImporter, FlightImportProperties properties) {
+        return new FlightImportRunner(flightImporter, properties);
+    }
+}
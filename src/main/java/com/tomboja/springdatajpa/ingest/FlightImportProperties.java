@@ -0,0 +1,44 @@
+package com.tomboja.springdatajpa.ingest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "flights.import")
+public class FlightImportProperties {
+
+    /** Schedule file to import on start up, the application exits once it is loaded. */
+    private String file;
+
+    /** Threads parsing the file. */
+    private int parsers = Runtime.getRuntime().availableProcessors();
+
+    /** Threads inserting parsed flights, each holds a connection and must stay below the pool size. */
+    private int writers = 4;
+
+    /** Flights per JDBC batch and per transaction. */
+    private int batchSize = 1000;
+
+    /** Parsed batches waiting for a writer before the parsers block. */
+    private int queueCapacity = 16;
+
+    /** Slice of the file mapped and parsed as one unit, a line may not be longer. */
+    private DataSize chunkSize = DataSize.ofMegabytes(8);
+
+    /** Field separator. */
+    private char delimiter = ',';
+
+    /** How often progress is logged. */
+    private Duration progressInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,27 @@
+package com.tomboja.springdatajpa.ingest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class FlightImportResult {
+    private final long imported;
+    private final long batches;
+    private final long bytes;
+    private final Duration elapsed;
+
+    public double getFlightsPerSecond() {
+        return elapsed.isZero() ? imported : imported * 1_000_000_000d / elapsed.toNanos();
+    }
+}
@@ -0,0 +1,39 @@
+package com.tomboja.springdatajpa.ingest;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Imports flights.import.file once the application has started. Started
+ * with --flights.import.file=... the application runs without a web server
+ * and exits when the import is done, see SpringDataJpaApplication.
+ */
+
+public class FlightImportRunner implements ApplicationRunner {
+
+    public static final String FILE_PROPERTY = "flights.import.file";
+
+    private final FlightImporter flightImporter;
+    private final FlightImportProperties properties;
+
+    public FlightImportRunner(FlightImporter flightImporter, FlightImportProperties properties) {
+        this.flightImporter = flightImporter;
+        this.properties = properties;
+    }
+
+    public static boolean isImport(String... args) {
+        return Arrays.stream(args).anyMatch(arg -> arg.startsWith("--" + FILE_PROPERTY + "="));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        flightImporter.importFile(Paths.get(properties.getFile()));
+    }
+}
@@ -0,0 +1,310 @@
+package com.tomboja.springdatajpa.ingest;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.count.FlightCounts;
+import com.tomboja.springdatajpa.index.FlightIndexLoader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Loads a schedule file into the flight table. The file is mapped slice by
+ * slice, slices are parsed in parallel on a fork-join pool into batches of
+ * flights, and writer threads insert the batches with JDBC, one transaction
+ * per batch. The queue between them is bounded: when the writers fall behind
+ * the parsers block, and with them the reader, so memory stays at a few
+ * slices and queueCapacity batches whatever the size of the file.
+ *
+ * Batches commit independently, a failed import leaves the batches written
+ * before the failure in place.
+ */
+
+@Slf4j
+public class FlightImporter {
+
+    // Same id source as Hibernate: every value of the pooled sequence is
+    // handed out once, the ids used here never fall into a block Hibernate allocates
+    static final String INSERT = "insert into flight (id, origin, origin_upper, destination, scheduled_at) "
+            + "values (next value for flight_seq, ?, ?, ?, ?)";
+
+    private static final List<Flight> END_OF_FILE = new ArrayList<>(0);
+    private static final long POLL_MILLIS = 100;
+
+    private final FlightImportProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectProvider<FlightIndexLoader> flightIndexLoader;
+    private final FlightCounts flightCounts;
+    private final Counter importedFlights;
+    private final Timer batchInserts;
+
+    public FlightImporter(FlightImportProperties properties, DataSource dataSource,
+                          PlatformTransactionManager transactionManager, EntityManagerFactory entityManagerFactory,
+                          ObjectProvider<FlightIndexLoader> flightIndexLoader, FlightCounts flightCounts,
+                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.flightIndexLoader = flightIndexLoader;
+        this.flightCounts = flightCounts;
+        this.importedFlights = Counter.builder("flights.import.flights")
+                .description("Flights inserted by the schedule file importer")
+                .register(meterRegistry);
+        this.batchInserts = Timer.builder("flights.import.batches")
+                .description("Batch inserts of the schedule file importer, one transaction each")
+                .register(meterRegistry);
+    }
+
+    public FlightImportResult importFile(Path file) throws IOException, InterruptedException {
+        final long started = System.nanoTime();
+        final Pipeline pipeline = new Pipeline(started);
+        final long bytes;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            bytes = channel.size();
+            pipeline.run(channel);
+        } finally {
+            // The rows went around Hibernate, the index maintainer and the counters
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+            flightIndexLoader.ifAvailable(FlightIndexLoader::load);
+            flightCounts.clear();
+        }
+        final FlightImportResult result = new FlightImportResult(pipeline.imported.sum(), pipeline.batches.sum(),
+                bytes, Duration.ofNanos(System.nanoTime() - started));
+        log.info("Imported {} flights from {} in {} batches, {} ms, {} flights/s", result.getImported(), file,
+                result.getBatches(), result.getElapsed().toMillis(), Math.round(result.getFlightsPerSecond()));
+        return result;
+    }
+
+    private void insert(List<Flight> batch) {
+        final long begun = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (statement, flight) -> {
+                    statement.setString(1, flight.getOrigin());
+                    statement.setString(2, Flight.normalizeOrigin(flight.getOrigin()));
+                    statement.setString(3, flight.getDestination());
+                    statement.setTimestamp(4, flight.getScheduledAt() == null
+                            ? null : Timestamp.valueOf(flight.getScheduledAt()));
+                }));
+        batchInserts.record(System.nanoTime() - begun, TimeUnit.NANOSECONDS);
+        importedFlights.increment(batch.size());
+    }
+
+    private class Pipeline {
+        private final long started;
+        private final BlockingQueue<List<Flight>> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final LongAdder imported = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+
+        Pipeline(long started) {
+            this.started = started;
+        }
+
+        void run(FileChannel channel) throws IOException, InterruptedException {
+            final ForkJoinPool parsers = new ForkJoinPool(properties.getParsers());
+            final ExecutorService writers = Executors.newFixedThreadPool(properties.getWriters(),
+                    new CustomizableThreadFactory("flight-import-"));
+            final ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(
+                    new CustomizableThreadFactory("flight-import-progress-"));
+            try {
+                for (int i = 0; i < properties.getWriters(); i++) {
+                    writers.execute(this::write);
+                }
+                final long interval = properties.getProgressInterval().toMillis();
+                progress.scheduleAtFixedRate(this::report, interval, interval, TimeUnit.MILLISECONDS);
+                try {
+                    read(channel, parsers);
+                    for (int i = 0; i < properties.getWriters(); i++) {
+                        enqueue(END_OF_FILE);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    fail(e);
+                }
+                writers.shutdown();
+                while (!writers.awaitTermination(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    // Writers drain the queue up to their end markers
+                }
+            } finally {
+                progress.shutdownNow();
+                parsers.shutdownNow();
+                writers.shutdownNow();
+            }
+            final Throwable cause = failure.get();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause != null) {
+                throw new IllegalStateException("Flight import failed", cause);
+            }
+        }
+
+        // Maps the file slice by slice, each slice ending on a line break
+        private void read(FileChannel channel, ForkJoinPool parsers) throws IOException, InterruptedException {
+            final long size = channel.size();
+            final long chunkSize = properties.getChunkSize().toBytes();
+            // Slices mapped but not parsed yet
+            final int slices = properties.getParsers() * 2;
+            final Semaphore inFlight = new Semaphore(slices);
+            long position = 0;
+            while (position < size && failure.get() == null) {
+                final MappedByteBuffer slice = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(chunkSize, size - position));
+                if (position + slice.limit() < size) {
+                    final int length = lastLineBreak(slice) + 1;
+                    if (length == 0) {
+                        throw new IllegalArgumentException("Line at byte " + position
+                                + " is longer than flights.import.chunk-size");
+                    }
+                    slice.limit(length);
+                }
+                if (!acquire(inFlight)) {
+                    break;
+                }
+                final long offset = position;
+                parsers.execute(() -> {
+                    try {
+                        parse(slice, offset);
+                    } catch (Throwable e) {
+                        fail(e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                position += slice.limit();
+            }
+            // Every permit back means every slice is parsed and queued
+            inFlight.acquire(slices);
+        }
+
+        private void parse(ByteBuffer slice, long offset) {
+            final Batcher batcher = new Batcher();
+            new FlightLineParser(properties.getDelimiter()).parse(slice, offset, batcher);
+            batcher.flush();
+        }
+
+        // Blocks the parser, on its own pool, while the queue is full
+        private void enqueue(List<Flight> batch) {
+            try {
+                while (!queue.offer(batch, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (failure.get() != null) {
+                        throw new CancellationException("Flight import failed");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Flight import interrupted");
+            }
+        }
+
+        private void write() {
+            try {
+                while (failure.get() == null) {
+                    final List<Flight> batch = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (batch == END_OF_FILE) {
+                        return;
+                    }
+                    if (batch != null) {
+                        insert(batch);
+                        imported.add(batch.size());
+                        batches.increment();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            } catch (Throwable e) {
+                fail(e);
+            }
+        }
+
+        private boolean acquire(Semaphore semaphore) throws InterruptedException {
+            while (!semaphore.tryAcquire(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void report() {
+            final long flights = imported.sum();
+            final long elapsed = System.nanoTime() - started;
+            log.info("Imported {} flights in {} batches, {} flights/s, {} batches queued", flights, batches.sum(),
+                    Math.round(flights * 1_000_000_000d / elapsed), queue.size());
+        }
+
+        // The first failure is the one reported, later ones are its consequences
+        private void fail(Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+
+        private class Batcher implements Consumer<Flight> {
+            private List<Flight> batch = new ArrayList<>(properties.getBatchSize());
+
+            @Override
+            public void accept(Flight flight) {
+                batch.add(flight);
+                if (batch.size() == properties.getBatchSize()) {
+                    flush();
+                }
+            }
+
+            void flush() {
+                if (!batch.isEmpty()) {
+                    enqueue(batch);
+                    batch = new ArrayList<>(properties.getBatchSize());
+                }
+            }
+        }
+    }
+
+    private static int lastLineBreak(ByteBuffer slice) {
+        for (int i = slice.limit() - 1; i >= 0; i--) {
+            if (slice.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,111 @@
+package com.tomboja.springdatajpa.ingest;
+
+import com.tomboja.springdatajpa.Flight;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Parses origin, destination, scheduled_at lines (UTF-8, unquoted, ISO
+ * local date-times, scheduled_at may be empty) straight out of a mapped
+ * slice of the file, without decoding the slice into one big string.
+ */
+
+class FlightLineParser {
+
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final String HEADER = "origin";
+
+    private final byte delimiter;
+    private byte[] field = new byte[64];
+
+    FlightLineParser(char delimiter) {
+        if (delimiter > 0x7f) {
+            throw new IllegalArgumentException("Delimiter must be an ASCII character");
+        }
+        this.delimiter = (byte) delimiter;
+    }
+
+    /**
+     * Parses every line of {@code slice}, which starts at {@code offset} in
+     * the file and holds whole lines only. A header line is skipped at offset 0.
+     */
+    void parse(ByteBuffer slice, long offset, Consumer<Flight> flights) {
+        final int limit = slice.limit();
+        int start = slice.position();
+        while (start < limit) {
+            int end = start;
+            while (end < limit && slice.get(end) != NEW_LINE) {
+                end++;
+            }
+            final int next = end + 1;
+            if (end > start && slice.get(end - 1) == CARRIAGE_RETURN) {
+                end--;
+            }
+            if (end > start && !(offset + start == 0 && isHeader(slice, start, end))) {
+                flights.accept(parseLine(slice, start, end, offset));
+            }
+            start = next;
+        }
+    }
+
+    private Flight parseLine(ByteBuffer slice, int start, int end, long offset) {
+        final int first = indexOf(slice, delimiter, start, end);
+        final int second = first < 0 ? -1 : indexOf(slice, delimiter, first + 1, end);
+        if (second < 0 || indexOf(slice, delimiter, second + 1, end) >= 0) {
+            throw malformed(slice, start, end, offset, "expected origin, destination and scheduled_at");
+        }
+        final String origin = decode(slice, start, first);
+        final String destination = decode(slice, first + 1, second);
+        final String scheduledAt = decode(slice, second + 1, end);
+        try {
+            return new Flight(null, origin.isEmpty() ? null : origin, destination.isEmpty() ? null : destination,
+                    scheduledAt.isEmpty() ? null : LocalDateTime.parse(scheduledAt));
+        } catch (DateTimeParseException e) {
+            throw malformed(slice, start, end, offset, e.getMessage());
+        }
+    }
+
+    private boolean isHeader(ByteBuffer slice, int start, int end) {
+        return decode(slice, start, Math.min(end, start + HEADER.length())).equalsIgnoreCase(HEADER);
+    }
+
+    private String decode(ByteBuffer slice, int start, int end) {
+        while (start < end && slice.get(start) == ' ') {
+            start++;
+        }
+        while (end > start && slice.get(end - 1) == ' ') {
+            end--;
+        }
+        final int length = end - start;
+        if (field.length < length) {
+            field = new byte[length];
+        }
+        for (int i = 0; i < length; i++) {
+            field[i] = slice.get(start + i);
+        }
+        return new String(field, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(ByteBuffer slice, byte value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (slice.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private IllegalArgumentException malformed(ByteBuffer slice, int start, int end, long offset, String reason) {
+        return new IllegalArgumentException("Malformed flight at byte " + (offset + start) + " ("
+                + reason + "): " + decode(slice, start, end));
+    }
+}
@@ -0,0 +1,50 @@
+package com.tomboja.springdatajpa.reactive;
+
+import com.tomboja.springdatajpa.Flight;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * GET /flights?origin=LHR[&destination=JFK] or ?origin=LHR&origin=CDG.
+ * Asked for application/x-ndjson the flights are written one line each as
+ * they arrive, at the pace the connection takes them; as application/json
+ * they are collected into one array first. Read-only: deletes stay on
+ * ReactiveFlightRepository.
+ */
+
+@RestController
+@RequestMapping("/flights")
+public class FlightStreamController {
+
+    private final ReactiveFlightRepository reactiveFlightRepository;
+
+    public FlightStreamController(ReactiveFlightRepository reactiveFlightRepository) {
+        this.reactiveFlightRepository = reactiveFlightRepository;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<Flight> findFlights(@RequestParam("origin") List<String> origins,
+                                    @RequestParam(name = "destination", required = false) String destination) {
+        if (origins.size() == 1) {
+            return destination == null
+                    ? reactiveFlightRepository.findByOrigin(origins.get(0))
+                    : reactiveFlightRepository.findFlightByOriginAndDestination(origins.get(0), destination);
+        }
+        if (destination != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "destination takes a single origin");
+        }
+        return reactiveFlightRepository.findByOriginIn(origins);
+    }
+}
@@ -0,0 +1,57 @@
+package com.tomboja.springdatajpa.reactive;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Connects R2DBC to the database spring.datasource.url points to, so both
+ * paths see the same flights. The connection pool is not a bean: Boot's
+ * DataSource auto-configuration backs off from any ConnectionFactory bean.
+ */
+
+@Configuration
+@EnableConfigurationProperties(ReactiveFlightProperties.class)
+public class ReactiveFlightConfiguration {
+
+    private static final String H2_PREFIX = "jdbc:h2:";
+
+    @Bean(destroyMethod = "close")
+    public ReactiveFlightRepository reactiveFlightRepository(DataSourceProperties dataSourceProperties,
+                                                             ReactiveFlightProperties properties,
+                                                             EntityManagerFactory entityManagerFactory,
+                                                             ApplicationEventPublisher eventPublisher) {
+        return new ReactiveFlightRepository(connectionPool(dataSourceProperties, properties), properties.getPrefetch(),
+                entityManagerFactory, eventPublisher);
+    }
+
+    private static ConnectionPool connectionPool(DataSourceProperties dataSourceProperties,
+                                                 ReactiveFlightProperties properties) {
+        final String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith(H2_PREFIX)) {
+            throw new IllegalStateException("Reactive flight queries need an H2 spring.datasource.url, got " + url);
+        }
+        final H2ConnectionConfiguration.Builder configuration = H2ConnectionConfiguration.builder()
+                .url(url.substring(H2_PREFIX.length()))
+                .username(dataSourceProperties.determineUsername());
+        if (dataSourceProperties.determinePassword() != null) {
+            configuration.password(dataSourceProperties.determinePassword());
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(new H2ConnectionFactory(configuration.build()))
+                .initialSize(0)
+                .maxSize(properties.getMaxConnections())
+                .build());
+    }
+}
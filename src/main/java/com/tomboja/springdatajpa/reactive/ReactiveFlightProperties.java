@@ -0,0 +1,23 @@
+package com.tomboja.springdatajpa.reactive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "flights.reactive")
+public class ReactiveFlightProperties {
+
+    /** R2DBC connections, a pool of their own next to the JDBC one. */
+    private int maxConnections = 10;
+
+    /** Rows requested from the driver at a time while a response is streamed. */
+    private int prefetch = 256;
+}
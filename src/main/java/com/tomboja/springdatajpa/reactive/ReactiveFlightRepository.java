@@ -0,0 +1,125 @@
+package com.tomboja.springdatajpa.reactive;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.repository.FlightsDeletedEvent;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.Assert;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Reactive counterparts of the FlightRepository lookups over R2DBC. Rows
+ * are emitted as the driver reads them and no more than prefetch are
+ * requested ahead of the subscriber, so a slow client holds back the query
+ * rather than a growing buffer. Against H2 the embedded engine runs every
+ * statement on the thread that subscribes or requests, blocking it, so
+ * queries are subscribed on the bounded elastic scheduler and never run on
+ * a WebFlux event loop.
+ *
+ * Bypasses Hibernate: flights come back detached and deletes evict the
+ * Flight cache regions and publish a {@link FlightsDeletedEvent} themselves.
+ */
+
+public class ReactiveFlightRepository implements AutoCloseable {
+
+    private static final String SELECT = "select id, origin, destination, scheduled_at, version from flight ";
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+    private final int prefetch;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReactiveFlightRepository(ConnectionFactory connectionFactory, int prefetch,
+                                    EntityManagerFactory entityManagerFactory,
+                                    ApplicationEventPublisher eventPublisher) {
+        this.connectionFactory = connectionFactory;
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        this.prefetch = prefetch;
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Flux<Flight> findByOrigin(String origin) {
+        Assert.notNull(origin, "Origin must not be null");
+        return databaseClient.sql(SELECT + "where origin = :origin")
+                .bind("origin", origin)
+                .map(ReactiveFlightRepository::toFlight)
+                .all()
+                .subscribeOn(Schedulers.boundedElastic())
+                .limitRate(prefetch);
+    }
+
+    public Flux<Flight> findFlightByOriginAndDestination(String origin, String destination) {
+        Assert.notNull(origin, "Origin must not be null");
+        Assert.notNull(destination, "Destination must not be null");
+        return databaseClient.sql(SELECT + "where origin = :origin and destination = :destination")
+                .bind("origin", origin)
+                .bind("destination", destination)
+                .map(ReactiveFlightRepository::toFlight)
+                .all()
+                .subscribeOn(Schedulers.boundedElastic())
+                .limitRate(prefetch);
+    }
+
+    public Flux<Flight> findByOriginIn(Collection<String> origins) {
+        if (origins.isEmpty()) {
+            return Flux.empty();
+        }
+        // The collection is expanded into one bind marker per origin
+        return databaseClient.sql(SELECT + "where origin in (:origins)")
+                .bind("origins", new LinkedHashSet<>(origins))
+                .map(ReactiveFlightRepository::toFlight)
+                .all()
+                .subscribeOn(Schedulers.boundedElastic())
+                .limitRate(prefetch);
+    }
+
+    /** Emits the number of flights deleted. */
+    public Mono<Integer> deleteByOrigin(String origin) {
+        Assert.notNull(origin, "Origin must not be null");
+        return databaseClient.sql("delete from flight where origin = :origin")
+                .bind("origin", origin)
+                .fetch()
+                .rowsUpdated()
+                .doOnNext(deleted -> {
+                    // What Hibernate does for deleteByOrigin's synchronized native query
+                    final Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+                    cache.evictEntityData(Flight.class);
+                    cache.evictQueryRegions();
+                    eventPublisher.publishEvent(FlightsDeletedEvent.ofOrigin(origin));
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public void close() {
+        if (connectionFactory instanceof Disposable) {
+            ((Disposable) connectionFactory).dispose();
+        }
+    }
+
+    private static Flight toFlight(Row row, RowMetadata metadata) {
+        final Flight flight = new Flight(row.get("id", Long.class), row.get("origin", String.class),
+                row.get("destination", String.class), row.get("scheduled_at", LocalDateTime.class));
+        flight.setVersion(row.get("version", Long.class));
+        return flight;
+    }
+}
@@ -0,0 +1,30 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.ArchivedFlight;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public interface ArchivedFlightRepository extends JpaRepository<ArchivedFlight, Long> {
+
+    // Departures from origin scheduled in [from, until), oldest first. A Slice
+    // avoids counting through the whole history
+    @Transactional(readOnly = true)
+    @Query("select f from ArchivedFlight f where f.origin = :origin "
+            + "and f.scheduledAt >= :from and f.scheduledAt < :until order by f.scheduledAt, f.id")
+    Slice<ArchivedFlight> findByOriginScheduledBetween(@Param("origin") String origin,
+                                                       @Param("from") LocalDateTime from,
+                                                       @Param("until") LocalDateTime until,
+                                                       Pageable pageable);
+}
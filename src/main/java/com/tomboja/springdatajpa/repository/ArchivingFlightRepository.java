@@ -0,0 +1,17 @@
+package com.tomboja.springdatajpa.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public interface ArchivingFlightRepository {
+
+    // Moves flights scheduled before the cutoff into flight_archive, oldest
+    // first and chunkSize rows per transaction, so the flight table only
+    // holds the recent working set. Returns the number of flights moved
+    PurgeResult archiveScheduledBefore(LocalDateTime cutoff, int chunkSize);
+}
@@ -0,0 +1,85 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.ArchivedFlight;
+import org.hibernate.query.NativeQuery;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class ArchivingFlightRepositoryImpl implements ArchivingFlightRepository {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ArchivingFlightRepositoryImpl(EntityManager entityManager,
+                                         PlatformTransactionManager transactionManager,
+                                         ApplicationEventPublisher eventPublisher) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public PurgeResult archiveScheduledBefore(LocalDateTime cutoff, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least one");
+        }
+        long moved = 0;
+        int chunks = 0;
+        Duration longestChunk = Duration.ZERO;
+        while (true) {
+            final long started = System.nanoTime();
+            final Integer chunk = transactionTemplate.execute(status -> archiveChunk(cutoff, chunkSize));
+            final Duration took = Duration.ofNanos(System.nanoTime() - started);
+            if (chunk == null || chunk == 0) {
+                break;
+            }
+            moved += chunk;
+            chunks++;
+            if (took.compareTo(longestChunk) > 0) {
+                longestChunk = took;
+            }
+            if (chunk < chunkSize) {
+                break;
+            }
+        }
+        return new PurgeResult(moved, chunks, longestChunk);
+    }
+
+    private int archiveChunk(LocalDateTime cutoff, int chunkSize) {
+        entityManager.flush();
+        // Oldest first along idx_flight_scheduled_at
+        final List<Long> ids = entityManager.createQuery(
+                "select f.id from Flight f where f.scheduledAt < :cutoff order by f.scheduledAt, f.id", Long.class)
+                .setParameter("cutoff", cutoff)
+                .setMaxResults(chunkSize)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        entityManager.createNativeQuery("insert into flight_archive (id, origin, destination, scheduled_at) "
+                + "select id, origin, destination, scheduled_at from flight where id in (:ids)")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(ArchivedFlight.class)
+                .setParameter("ids", ids)
+                .executeUpdate();
+        final int moved = entityManager.createQuery("delete from Flight f where f.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.clear();
+        eventPublisher.publishEvent(FlightsDeletedEvent.ofIds(ids));
+        return moved;
+    }
+}
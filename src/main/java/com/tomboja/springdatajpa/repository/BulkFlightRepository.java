@@ -0,0 +1,18 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public interface BulkFlightRepository {
+
+    // Persists the flights in JDBC batches, flushing and clearing the
+    // persistence context after every chunk so memory does not grow with
+    // the input. Flights are detached once saved, and so is anything else
+    // the current persistence context was managing
+    long saveInBatches(Iterable<Flight> flights);
+}
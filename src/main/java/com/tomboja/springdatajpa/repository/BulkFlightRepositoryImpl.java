@@ -0,0 +1,41 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class BulkFlightRepositoryImpl implements BulkFlightRepository {
+
+    private final EntityManager entityManager;
+    private final int chunkSize;
+
+    public BulkFlightRepositoryImpl(EntityManager entityManager,
+                                    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int chunkSize) {
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Transactional
+    public long saveInBatches(Iterable<Flight> flights) {
+        long saved = 0;
+        for (Flight flight : flights) {
+            entityManager.persist(flight);
+            if (++saved % chunkSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return saved;
+    }
+}
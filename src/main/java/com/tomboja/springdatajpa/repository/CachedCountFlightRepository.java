@@ -0,0 +1,22 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public interface CachedCountFlightRepository {
+
+    // Pages like findAll(Pageable) and findByOrigin(String, Pageable) whose
+    // total comes from FlightCounts instead of a COUNT(*) per page. Exact
+    // while the counters follow every write, off by the writes they miss
+    // for at most flights.count.max-age otherwise
+    Page<Flight> findAllWithCachedCount(Pageable pageable);
+
+    Page<Flight> findByOriginWithCachedCount(String origin, Pageable pageable);
+}
@@ -0,0 +1,58 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.count.FlightCounts;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class CachedCountFlightRepositoryImpl implements CachedCountFlightRepository {
+
+    private final EntityManager entityManager;
+    private final FlightCounts flightCounts;
+
+    public CachedCountFlightRepositoryImpl(EntityManager entityManager, FlightCounts flightCounts) {
+        this.entityManager = entityManager;
+        this.flightCounts = flightCounts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Flight> findAllWithCachedCount(Pageable pageable) {
+        final TypedQuery<Flight> query = entityManager.createQuery(
+                QueryUtils.applySorting("select f from Flight f", pageable.getSort(), "f"), Flight.class);
+        // Like the count query it replaces, the total is only asked for when
+        // the page alone does not tell it
+        return PageableExecutionUtils.getPage(page(query, pageable), pageable, flightCounts::countAll);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Flight> findByOriginWithCachedCount(String origin, Pageable pageable) {
+        final TypedQuery<Flight> query = entityManager.createQuery(
+                QueryUtils.applySorting("select f from Flight f where f.origin = :origin", pageable.getSort(), "f"),
+                Flight.class)
+                .setParameter("origin", origin);
+        return PageableExecutionUtils.getPage(page(query, pageable), pageable, () -> flightCounts.count(origin));
+    }
+
+    private static List<Flight> page(TypedQuery<Flight> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList();
+    }
+}
@@ -1,5 +1,8 @@
 package com.tomboja.springdatajpa.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 /**
  * @ProjectName: spring-data-JPA
  * @Author: tdessalegn
@@ -7,5 +10,10 @@ package com.tomboja.springdatajpa.repository;
  */
 
 public interface DeleteByOriginRepository {
-    void deleteByOrigin(String origin);
+    int deleteByOrigin(String origin);
+
+    // Deletes flights from the given origins, optionally only those scheduled
+    // before the cutoff, chunkSize rows at a time. Outside a transaction every
+    // chunk commits on its own so row locks are held for one chunk only
+    PurgeResult purgeByOrigin(Collection<String> origins, LocalDateTime scheduledBefore, int chunkSize);
 }
@@ -1,6 +1,17 @@
 package com.tomboja.springdatajpa.repository;
 
+import com.tomboja.springdatajpa.Flight;
+import org.hibernate.query.NativeQuery;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
 import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * @ProjectName: spring-data-JPA
@@ -12,16 +23,85 @@ public class DeleteByOriginRepositoryImpl implements DeleteByOriginRepository {
 
     // Let's implement the deletion by using Entity manager
     private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DeleteByOriginRepositoryImpl(EntityManager entityManager) {
+    public DeleteByOriginRepositoryImpl(EntityManager entityManager,
+                                        PlatformTransactionManager transactionManager,
+                                        ApplicationEventPublisher eventPublisher) {
         this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
-    public void deleteByOrigin(String origin) {
-        entityManager
+    public int deleteByOrigin(String origin) {
+        final int deleted = entityManager
                 .createNativeQuery("DELETE from flight WHERE origin=?")
+                .unwrap(NativeQuery.class)
+                // Tells Hibernate which cache regions the statement touches,
+                // otherwise it has to throw every region away
+                .addSynchronizedEntityClass(Flight.class)
                 .setParameter(1, origin)
                 .executeUpdate();
+        eventPublisher.publishEvent(FlightsDeletedEvent.ofOrigin(origin));
+        return deleted;
+    }
+
+    @Override
+    public PurgeResult purgeByOrigin(Collection<String> origins, LocalDateTime scheduledBefore, int chunkSize) {
+        if (origins.isEmpty()) {
+            return new PurgeResult(0, 0, Duration.ZERO);
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least one");
+        }
+        long deleted = 0;
+        int chunks = 0;
+        Duration longestChunk = Duration.ZERO;
+        while (true) {
+            final long started = System.nanoTime();
+            final Integer chunk = transactionTemplate.execute(
+                    status -> deleteChunk(origins, scheduledBefore, chunkSize));
+            final Duration took = Duration.ofNanos(System.nanoTime() - started);
+            if (chunk == null || chunk == 0) {
+                break;
+            }
+            deleted += chunk;
+            chunks++;
+            if (took.compareTo(longestChunk) > 0) {
+                longestChunk = took;
+            }
+            if (chunk < chunkSize) {
+                break;
+            }
+        }
+        return new PurgeResult(deleted, chunks, longestChunk);
+    }
+
+    private int deleteChunk(Collection<String> origins, LocalDateTime scheduledBefore, int chunkSize) {
+        // Pending changes must reach the database before the ids are picked
+        entityManager.flush();
+        final TypedQuery<Long> select = entityManager.createQuery(
+                "select f.id from Flight f where f.origin in :origins"
+                        + (scheduledBefore == null ? "" : " and f.scheduledAt < :before")
+                        + " order by f.id", Long.class)
+                .setParameter("origins", origins)
+                .setMaxResults(chunkSize);
+        if (scheduledBefore != null) {
+            select.setParameter("before", scheduledBefore);
+        }
+        final List<Long> ids = select.getResultList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // Bulk JPQL deletes evict the Flight cache regions, clearing drops
+        // the deleted flights that are still managed
+        final int deleted = entityManager.createQuery("delete from Flight f where f.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.clear();
+        eventPublisher.publishEvent(FlightsDeletedEvent.ofIds(ids));
+        return deleted;
     }
 }
@@ -0,0 +1,129 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Position in a keyset (seek) ordered list of flights: the sort key and id
+ * of the last flight handed out. Clients only see it through {@link #encode()}.
+ * Flights without a sort key are listed after all others, by id; a cursor
+ * after one of them has a null key.
+ */
+
+@Getter
+@EqualsAndHashCode
+public final class FlightCursor {
+
+    /** Orderings a window can seek over, each ending with id as tie breaker. */
+    public enum Order {
+        SCHEDULED_AT('S', "scheduledAt"),
+        DESTINATION('D', "destination");
+
+        private final char code;
+        private final String property;
+
+        Order(char code, String property) {
+            this.code = code;
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        // Lower case for a cursor past the flights with a key
+        private static Order of(char code) {
+            for (Order order : values()) {
+                if (order.code == Character.toUpperCase(code)) {
+                    return order;
+                }
+            }
+            throw new IllegalArgumentException("Unknown cursor order: " + code);
+        }
+    }
+
+    private final Order order;
+    private final Object key;
+    private final Long id;
+
+    private FlightCursor(Order order, Object key, Long id) {
+        this.order = order;
+        this.key = key;
+        this.id = id;
+    }
+
+    /** Cursor positioned before the first flight. */
+    public static FlightCursor first(Order order) {
+        return new FlightCursor(order, null, null);
+    }
+
+    /** Cursor positioned right after the given flight. */
+    public static FlightCursor after(Order order, Flight flight) {
+        final Object key = order == Order.SCHEDULED_AT ? flight.getScheduledAt() : flight.getDestination();
+        return new FlightCursor(order, key, flight.getId());
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    /** Opaque, URL safe representation of this cursor. */
+    public String encode() {
+        final String raw = isFirst() ? String.valueOf(order.code)
+                : key == null ? Character.toLowerCase(order.code) + "|" + id
+                : order.code + String.valueOf(key) + '|' + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FlightCursor decode(String encoded) {
+        final String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed flight cursor: " + encoded, e);
+        }
+        if (raw.isEmpty()) {
+            throw new IllegalArgumentException("Malformed flight cursor: " + encoded);
+        }
+        final Order order = Order.of(raw.charAt(0));
+        if (raw.length() == 1) {
+            return first(order);
+        }
+        final int separator = raw.lastIndexOf('|');
+        if (separator < 1) {
+            throw new IllegalArgumentException("Malformed flight cursor: " + encoded);
+        }
+        final String key = raw.substring(1, separator);
+        final Long id = Long.valueOf(raw.substring(separator + 1));
+        if (Character.isLowerCase(raw.charAt(0))) {
+            if (!key.isEmpty()) {
+                throw new IllegalArgumentException("Malformed flight cursor: " + encoded);
+            }
+            return new FlightCursor(order, null, id);
+        }
+        return new FlightCursor(order, order == Order.SCHEDULED_AT ? parseScheduledAt(key, encoded) : key, id);
+    }
+
+    private static LocalDateTime parseScheduledAt(String key, String encoded) {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed flight cursor: " + encoded, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
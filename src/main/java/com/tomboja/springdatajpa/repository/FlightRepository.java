@@ -4,11 +4,27 @@ import com.tomboja.springdatajpa.Flight;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import javax.persistence.Tuple;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static com.tomboja.springdatajpa.async.AsyncQueryConfiguration.FLIGHT_QUERY_EXECUTOR;
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FLUSH_MODE;
 
 /**
  * @ProjectName: spring-data-JPA
@@ -16,19 +32,128 @@ import java.util.List;
  * @Date: 12/28/21
  */
 
-public interface FlightRepository extends JpaRepository<Flight, Long>, DeleteByOriginRepository {
+public interface FlightRepository extends JpaRepository<Flight, Long>, DeleteByOriginRepository,
+        KeysetFlightRepository, BulkFlightRepository, FlightStreamRepository, ArchivingFlightRepository,
+        MultiOriginFlightRepository, OriginSearchRepository, UpsertFlightRepository,
+        RescheduleFlightRepository, CachedCountFlightRepository {
+
+    String FLIGHT_QUERY_REGION = "flight-queries";
 
+    // Finders and paging run read-only, with flights.routing.enabled they are
+    // served by a read replica. Hub lookups repeat a lot, their results are
+    // kept in the query cache
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = FLIGHT_QUERY_REGION)})
     List<Flight> findByOrigin(String origin);
 
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = FLIGHT_QUERY_REGION)})
     List<Flight> findFlightByOriginAndDestination(String origin, String destination);
 
+    // Implemented by MultiOriginFlightRepositoryImpl
+    @Override
+    @Transactional(readOnly = true)
     List<Flight> findByOriginIn(Collection<String> origin);
 
+    @Override
+    @Transactional(readOnly = true)
+    List<Flight> findByOriginInJoined(Collection<String> origins);
+
     // Can also be defined as varargs with three dots like below
     // and meaning: zero or many string arguments
     //List<Flight> findByOriginIn(String ... origin);
 
-    List<Flight> findByOriginIgnoreCase(String origin);
+    // Matches on the indexed upper-case copy of origin rather than upper(origin).
+    // The argument is normalized before binding, H2 does not seek an index on upper(?)
+    @Transactional(readOnly = true)
+    @Query("select f from Flight f "
+            + "where f.originUpper = :#{T(com.tomboja.springdatajpa.Flight).normalizeOrigin(#origin)}")
+    List<Flight> findByOriginIgnoreCase(@Param("origin") String origin);
 
+    @Transactional(readOnly = true)
     Page<Flight> findByOrigin(String london, Pageable pageable);
+
+    // Slices read one flight past the page instead of counting, enough to
+    // tell whether there is a next page. See CachedCountFlightRepository for
+    // pages with a total that is not counted on every call
+    @Transactional(readOnly = true)
+    Slice<Flight> findSliceBy(Pageable pageable);
+
+    @Transactional(readOnly = true)
+    Slice<Flight> findSliceByOrigin(String origin, Pageable pageable);
+
+    // Projections of the queries above for read models (FlightSummary,
+    // FlightView or any other closed projection). They select the projected
+    // columns only and run read-only, so no entity snapshots are kept
+    @Transactional(readOnly = true)
+    <T> List<T> findByOrigin(String origin, Class<T> type);
+
+    @Transactional(readOnly = true)
+    <T> List<T> findFlightByOriginAndDestination(String origin, String destination, Class<T> type);
+
+    @Transactional(readOnly = true)
+    <T> List<T> findByOriginIn(Collection<String> origins, Class<T> type);
+
+    @Transactional(readOnly = true)
+    <T> Page<T> findByOrigin(String origin, Pageable pageable, Class<T> type);
+
+    @Transactional(readOnly = true)
+    @Query("select f.origin as origin, f.destination as destination, f.scheduledAt as scheduledAt "
+            + "from Flight f where f.originUpper = :#{T(com.tomboja.springdatajpa.Flight).normalizeOrigin(#origin)}")
+    List<FlightSummary> findSummariesByOriginIgnoreCase(@Param("origin") String origin);
+
+    @Transactional(readOnly = true)
+    @Query("select f.origin as origin, f.destination as destination, f.scheduledAt as scheduledAt "
+            + "from Flight f where f.origin = :origin")
+    List<Tuple> findTuplesByOrigin(@Param("origin") String origin);
+
+    // Route aggregates for dashboards, one row per origin and destination
+    // pair instead of every flight. Flights without either have no route.
+    // See RouteSummary for the same answers kept in a table of routes
+    @Transactional(readOnly = true)
+    @Query("select f.origin as origin, f.destination as destination, count(f) as flights from Flight f "
+            + "where f.origin is not null and f.destination is not null "
+            + "group by f.origin, f.destination order by f.origin, f.destination")
+    List<RouteCount> countFlightsByRoute();
+
+    @Transactional(readOnly = true)
+    @Query(value = "select origin as \"origin\", destination as \"destination\", id as \"flightId\", "
+            + "scheduled_at as \"scheduledAt\" from ("
+            + "select f.origin, f.destination, f.id, f.scheduled_at, row_number() over ("
+            + "partition by f.origin, f.destination order by f.scheduled_at, f.id) as departure "
+            + "from flight f where f.scheduled_at > :after "
+            + "and f.origin is not null and f.destination is not null) routes "
+            + "where departure = 1 order by origin, destination", nativeQuery = true)
+    List<RouteDeparture> findNextDeparturesAfter(@Param("after") LocalDateTime after);
+
+    // The flight's version, read under a row lock held until the transaction
+    // ends. FlightUpdater compares it with the version it changed before the
+    // change is flushed, which this query must not do first
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query(value = "select version from flight where id = :id for update", nativeQuery = true)
+    Optional<Long> findVersionForUpdate(@Param("id") long id);
+
+    // Asynchronous variants for fanning out several lookups at once. They run
+    // on the bounded flightQueryExecutor, each in its own transaction
+    @Async(FLIGHT_QUERY_EXECUTOR)
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = FLIGHT_QUERY_REGION)})
+    CompletableFuture<List<Flight>> findAsyncByOrigin(String origin);
+
+    @Async(FLIGHT_QUERY_EXECUTOR)
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = FLIGHT_QUERY_REGION)})
+    CompletableFuture<List<Flight>> findAsyncFlightByOriginAndDestination(String origin, String destination);
+
+    @Async(FLIGHT_QUERY_EXECUTOR)
+    @Transactional(readOnly = true)
+    CompletableFuture<List<Flight>> findAsyncByOriginIn(Collection<String> origins);
 }
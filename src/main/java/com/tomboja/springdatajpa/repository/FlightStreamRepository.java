@@ -0,0 +1,22 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+
+import java.util.stream.Stream;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public interface FlightStreamRepository {
+
+    // Forward-only cursors over the table: rows are fetched from the driver
+    // in fetch-size chunks and every flight is detached once handed out, so
+    // memory stays flat whatever the row count. Like every Stream query the
+    // stream must be consumed inside a transaction and closed afterwards
+    Stream<Flight> streamByOrigin(String origin);
+
+    Stream<Flight> streamAll();
+}
@@ -0,0 +1,72 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.springframework.beans.factory.annotation.Value;
+
+import javax.persistence.EntityManager;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class FlightStreamRepositoryImpl implements FlightStreamRepository {
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public FlightStreamRepositoryImpl(EntityManager entityManager,
+                                      @Value("${flights.stream.fetch-size:1000}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<Flight> streamByOrigin(String origin) {
+        return stream(createQuery("select f from Flight f where f.origin = :origin")
+                .setParameter("origin", origin));
+    }
+
+    @Override
+    public Stream<Flight> streamAll() {
+        return stream(createQuery("select f from Flight f"));
+    }
+
+    private Query<Flight> createQuery(String hql) {
+        return entityManager.unwrap(Session.class)
+                .createQuery(hql, Flight.class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE);
+    }
+
+    private Stream<Flight> stream(Query<Flight> query) {
+        final ScrollableResults results = query.scroll(ScrollMode.FORWARD_ONLY);
+        final Spliterator<Flight> spliterator = new Spliterators.AbstractSpliterator<Flight>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Flight> action) {
+                if (!results.next()) {
+                    return false;
+                }
+                final Flight flight = (Flight) results.get(0);
+                // Keep the persistence context from growing with the result
+                entityManager.detach(flight);
+                action.accept(flight);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(results::close);
+    }
+}
@@ -0,0 +1,20 @@
+package com.tomboja.springdatajpa.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Closed projection for departure boards: only these columns are selected
+ * and no Flight entity is hydrated or tracked.
+ */
+
+public interface FlightSummary {
+    String getOrigin();
+
+    String getDestination();
+
+    LocalDateTime getScheduledAt();
+}
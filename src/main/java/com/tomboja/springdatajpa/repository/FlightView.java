@@ -0,0 +1,20 @@
+package com.tomboja.springdatajpa.repository;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * DTO projection, instantiated straight from the query through its constructor.
+ */
+
+@Value
+public class FlightView {
+    String origin;
+    String destination;
+    LocalDateTime scheduledAt;
+}
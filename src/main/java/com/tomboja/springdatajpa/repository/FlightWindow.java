@@ -0,0 +1,31 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * One window of a keyset paged query. There is no total count on purpose,
+ * use {@link #getNextCursor()} to fetch the following window.
+ */
+
+@AllArgsConstructor
+@ToString
+public class FlightWindow {
+    @Getter
+    private final List<Flight> content;
+    @Getter
+    private final FlightCursor nextCursor;
+    private final boolean hasNext;
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+}
@@ -0,0 +1,39 @@
+package com.tomboja.springdatajpa.repository;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Published by the bulk delete paths (deleteByOrigin, purgeByOrigin and
+ * archiveScheduledBefore). They bypass the persistence context, so listeners
+ * relying on Hibernate entity events would not see these flights go.
+ * Either origin or ids is set.
+ */
+
+@Getter
+@ToString
+public final class FlightsDeletedEvent {
+    private final String origin;
+    private final Collection<Long> ids;
+
+    private FlightsDeletedEvent(String origin, Collection<Long> ids) {
+        this.origin = origin;
+        this.ids = ids;
+    }
+
+    /** Every flight from the origin was deleted. */
+    public static FlightsDeletedEvent ofOrigin(String origin) {
+        return new FlightsDeletedEvent(origin, Collections.emptyList());
+    }
+
+    public static FlightsDeletedEvent ofIds(Collection<Long> ids) {
+        return new FlightsDeletedEvent(null, Collections.unmodifiableCollection(ids));
+    }
+}
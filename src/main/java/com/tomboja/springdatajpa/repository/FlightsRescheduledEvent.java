@@ -0,0 +1,25 @@
+package com.tomboja.springdatajpa.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Published by shiftScheduledAt, which updates the flights of an origin
+ * without loading them: listeners relying on Hibernate entity events would
+ * not see them move.
+ */
+
+@Getter
+@AllArgsConstructor
+@ToString
+public final class FlightsRescheduledEvent {
+    private final String origin;
+    private final Duration shift;
+}
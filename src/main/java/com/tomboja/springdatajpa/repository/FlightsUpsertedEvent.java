@@ -0,0 +1,27 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Published by upsertAll when it inserted or updated rows, with the flights
+ * it was given for them. The statements bypass the persistence context,
+ * listeners relying on Hibernate entity events would not see these flights
+ * change; ids and versions are the table's, found by natural key.
+ */
+
+@Getter
+@AllArgsConstructor
+@ToString(exclude = "flights")
+public final class FlightsUpsertedEvent {
+    private final UpsertResult result;
+    private final List<Flight> flights;
+}
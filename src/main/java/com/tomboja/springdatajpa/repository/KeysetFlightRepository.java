@@ -0,0 +1,25 @@
+package com.tomboja.springdatajpa.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public interface KeysetFlightRepository {
+
+    // Seek pagination: every window is a range scan starting right after
+    // the cursor, so deep windows cost the same as the first one and no
+    // COUNT query is issued. Flights without a sort key come last, by id
+    FlightWindow seekByOrigin(String origin, FlightCursor cursor, int size);
+
+    FlightWindow seekAll(FlightCursor cursor, int size);
+
+    // Departures from origin scheduled in [from, until), by scheduledAt. Reads
+    // only the slice of idx_flight_origin_scheduled_at inside the range, no
+    // matter how much history the origin has
+    FlightWindow seekByOriginScheduledBetween(String origin, LocalDateTime from, LocalDateTime until,
+                                              FlightCursor cursor, int size);
+}
@@ -0,0 +1,110 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class KeysetFlightRepositoryImpl implements KeysetFlightRepository {
+
+    private final EntityManager entityManager;
+
+    public KeysetFlightRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public FlightWindow seekByOrigin(String origin, FlightCursor cursor, int size) {
+        return seek("f.origin = :origin", Collections.singletonMap("origin", origin), cursor, size, true);
+    }
+
+    @Override
+    public FlightWindow seekAll(FlightCursor cursor, int size) {
+        return seek(null, Collections.emptyMap(), cursor, size, true);
+    }
+
+    @Override
+    public FlightWindow seekByOriginScheduledBetween(String origin, LocalDateTime from, LocalDateTime until,
+                                                     FlightCursor cursor, int size) {
+        if (cursor.getOrder() != FlightCursor.Order.SCHEDULED_AT) {
+            throw new IllegalArgumentException("Time ranges are walked in scheduledAt order, got " + cursor.getOrder());
+        }
+        if (!from.isBefore(until)) {
+            throw new IllegalArgumentException("Empty time range: " + from + " - " + until);
+        }
+        final Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("origin", origin);
+        parameters.put("from", from);
+        parameters.put("until", until);
+        // Unscheduled flights fall outside every range
+        return seek("f.origin = :origin and f.scheduledAt >= :from and f.scheduledAt < :until",
+                parameters, cursor, size, false);
+    }
+
+    // Flights with a sort key first, by key and id, then those without one
+    // by id: a window may end in the first run and the next one go on in the
+    // second. Each run is a seek of its own, the sort key indexes end with id
+    private FlightWindow seek(String filter, Map<String, Object> parameters, FlightCursor cursor, int size,
+                              boolean nullKeys) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Window size must be at least one");
+        }
+        final List<Flight> flights = new ArrayList<>(size + 1);
+        final boolean pastKeys = !cursor.isFirst() && cursor.getKey() == null;
+        if (!pastKeys) {
+            flights.addAll(find(filter, parameters, cursor, false, size + 1));
+        }
+        if (nullKeys && flights.size() <= size) {
+            flights.addAll(find(filter, parameters, cursor, true, size + 1 - flights.size()));
+        }
+
+        final boolean hasNext = flights.size() > size;
+        final List<Flight> content = hasNext ? flights.subList(0, size) : flights;
+        final FlightCursor next = content.isEmpty()
+                ? cursor
+                : FlightCursor.after(cursor.getOrder(), content.get(content.size() - 1));
+        return new FlightWindow(content, next, hasNext);
+    }
+
+    private List<Flight> find(String filter, Map<String, Object> parameters, FlightCursor cursor,
+                              boolean nullKey, int limit) {
+        final String key = "f." + cursor.getOrder().getProperty();
+        final StringBuilder jpql = new StringBuilder("select f from Flight f where ")
+                .append(key).append(nullKey ? " is null" : " is not null");
+        if (filter != null) {
+            jpql.append(" and ").append(filter);
+        }
+        // Only the run the cursor stopped in starts after it
+        final boolean after = !cursor.isFirst() && (cursor.getKey() == null) == nullKey;
+        if (after && nullKey) {
+            jpql.append(" and f.id > :id");
+        } else if (after) {
+            // The first conjunct is a plain range predicate the index can seek on
+            jpql.append(" and ").append(key).append(" >= :key and (")
+                    .append(key).append(" > :key or f.id > :id)");
+        }
+        jpql.append(nullKey ? " order by f.id" : " order by " + key + ", f.id");
+
+        final TypedQuery<Flight> query = entityManager.createQuery(jpql.toString(), Flight.class)
+                .setMaxResults(limit);
+        parameters.forEach(query::setParameter);
+        if (after) {
+            if (!nullKey) {
+                query.setParameter("key", cursor.getKey());
+            }
+            query.setParameter("id", cursor.getId());
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,29 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public interface MultiOriginFlightRepository {
+
+    // Flights from any of the origins, by id. Lists up to
+    // flights.in-list.batch-size use a single padded IN query, longer ones
+    // are split into batches run in parallel and merged by id, and from
+    // flights.in-list.join-threshold origins on the origins are matched
+    // against a VALUES list instead. Parallel batches run in transactions of
+    // their own and may read different snapshots: a flight moved between
+    // origins meanwhile can be missed or returned twice
+    List<Flight> findByOriginIn(Collection<String> origins);
+
+    // The VALUES list variant on its own: a single statement, so a single
+    // snapshot whatever the number of origins, padded to one shape per power
+    // of two like the IN lists
+    List<Flight> findByOriginInJoined(Collection<String> origins);
+}
@@ -0,0 +1,124 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.tomboja.springdatajpa.async.AsyncQueryConfiguration.FLIGHT_QUERY_EXECUTOR;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class MultiOriginFlightRepositoryImpl implements MultiOriginFlightRepository {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor executor;
+    private final int batchSize;
+    private final int joinThreshold;
+
+    public MultiOriginFlightRepositoryImpl(EntityManager entityManager,
+                                           PlatformTransactionManager transactionManager,
+                                           @Qualifier(FLIGHT_QUERY_EXECUTOR) Executor executor,
+                                           @Value("${flights.in-list.batch-size:500}") int batchSize,
+                                           @Value("${flights.in-list.join-threshold:5000}") int joinThreshold) {
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.joinThreshold = joinThreshold;
+    }
+
+    @Override
+    public List<Flight> findByOriginIn(Collection<String> origins) {
+        final List<String> distinct = new ArrayList<>(new LinkedHashSet<>(origins));
+        if (distinct.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (distinct.size() >= joinThreshold) {
+            return findByOriginInJoined(distinct);
+        }
+        if (distinct.size() <= batchSize) {
+            return findBatch(distinct);
+        }
+        final List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            batches.add(distinct.subList(from, Math.min(from + batchSize, distinct.size())));
+        }
+        final List<Flight> flights = new ArrayList<>();
+        if (insideReadWriteTransaction()) {
+            // Other threads would not see this transaction's uncommitted flights
+            batches.forEach(batch -> flights.addAll(findBatch(batch)));
+        } else {
+            // Each batch in a read-only transaction of its own, they may read
+            // different snapshots
+            final List<CompletableFuture<List<Flight>>> futures = new ArrayList<>(batches.size());
+            for (List<String> batch : batches) {
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> readOnlyTransaction.execute(status -> findBatch(batch)), executor));
+            }
+            futures.forEach(future -> flights.addAll(future.join()));
+        }
+        flights.sort(Comparator.comparing(Flight::getId));
+        return flights;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Flight> findByOriginInJoined(Collection<String> origins) {
+        final List<String> distinct = new ArrayList<>(new LinkedHashSet<>(origins));
+        if (distinct.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // Padded to the next power of two like the IN lists, repeating an
+        // origin, which the IN drops again
+        final int rows = Integer.highestOneBit(distinct.size() * 2 - 1);
+        final StringBuilder values = new StringBuilder();
+        for (int row = 0; row < rows; row++) {
+            values.append(row == 0 ? "(?)" : ", (?)");
+        }
+        // A table value constructor, standard SQL. H2 seeks the origin index
+        // for each of its rows
+        final NativeQuery<Flight> query = entityManager.createNativeQuery("select f.* from flight f "
+                + "where f.origin in (select o.origin from (values " + values + ") o(origin)) "
+                + "order by f.id", Flight.class)
+                .unwrap(NativeQuery.class)
+                // Only pending Flight changes have to be flushed first
+                .addSynchronizedEntityClass(Flight.class);
+        for (int row = 0; row < rows; row++) {
+            query.setParameter(row + 1, distinct.get(Math.min(row, distinct.size() - 1)));
+        }
+        return query.getResultList();
+    }
+
+    private List<Flight> findBatch(List<String> origins) {
+        // hibernate.query.in_clause_parameter_padding rounds the list up to a
+        // power of two, a handful of statement shapes cover every size
+        return entityManager.createQuery("select f from Flight f where f.origin in :origins order by f.id",
+                Flight.class)
+                .setParameter("origins", origins)
+                .getResultList();
+    }
+
+    private static boolean insideReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
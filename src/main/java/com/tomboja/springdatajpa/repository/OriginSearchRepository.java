@@ -0,0 +1,17 @@
+package com.tomboja.springdatajpa.repository;
+
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public interface OriginSearchRepository {
+
+    // Distinct normalized origins starting with the prefix, ignoring case, in
+    // order, for airport autocomplete. Costs one index seek per origin
+    // returned however many flights each origin has
+    List<String> findOriginsStartingWith(String prefix, int limit);
+}
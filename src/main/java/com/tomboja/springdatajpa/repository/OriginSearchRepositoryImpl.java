@@ -0,0 +1,60 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class OriginSearchRepositoryImpl implements OriginSearchRepository {
+
+    private final EntityManager entityManager;
+
+    public OriginSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // One read-only transaction for all the seeks: a single connection, on a
+    // replica when one is healthy, and no flush before every query
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findOriginsStartingWith(String prefix, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least one");
+        }
+        final String from = Flight.normalizeOrigin(prefix);
+        // Every string starting with the prefix sorts below prefix + U+FFFF,
+        // a plain range needs no LIKE escaping and seeks idx_flight_origin_upper
+        final String until = from + Character.MAX_VALUE;
+        final List<String> origins = new ArrayList<>(limit);
+        String after = null;
+        while (origins.size() < limit) {
+            // Skip scan: the next distinct origin is the first entry past the last one
+            final TypedQuery<String> query = entityManager.createQuery("select f.originUpper from Flight f "
+                    + "where f.originUpper >= :from and f.originUpper < :until"
+                    + (after == null ? "" : " and f.originUpper > :after")
+                    + " order by f.originUpper", String.class)
+                    .setParameter("from", from)
+                    .setParameter("until", until)
+                    .setMaxResults(1);
+            if (after != null) {
+                query.setParameter("after", after);
+            }
+            final List<String> next = query.getResultList();
+            if (next.isEmpty()) {
+                break;
+            }
+            after = next.get(0);
+            origins.add(after);
+        }
+        return origins;
+    }
+}
@@ -0,0 +1,23 @@
+package com.tomboja.springdatajpa.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class PurgeResult {
+    private final long deleted;
+    private final int chunks;
+    // Slowest chunk, the longest time rows stayed locked when chunks commit separately
+    private final Duration longestChunk;
+}
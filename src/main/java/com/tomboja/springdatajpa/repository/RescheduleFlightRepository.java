@@ -0,0 +1,18 @@
+package com.tomboja.springdatajpa.repository;
+
+import java.time.Duration;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public interface RescheduleFlightRepository {
+
+    // Moves every flight from the origin by shift (whole microseconds) in one
+    // statement without loading them, and counts a new version for each so
+    // that copies read before fail their next save. Flights already in the
+    // persistence context keep their old schedule. Returns the flights moved
+    int shiftScheduledAt(String origin, Duration shift);
+}
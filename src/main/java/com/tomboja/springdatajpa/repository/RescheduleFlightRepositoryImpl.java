@@ -0,0 +1,66 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+import org.hibernate.query.NativeQuery;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class RescheduleFlightRepositoryImpl implements RescheduleFlightRepository {
+
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RescheduleFlightRepositoryImpl(EntityManager entityManager, ApplicationEventPublisher eventPublisher) {
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public int shiftScheduledAt(String origin, Duration shift) {
+        // scheduled_at keeps microseconds, finer shifts would be truncated
+        if (shift.getNano() % 1_000 != 0) {
+            throw new IllegalArgumentException("Shift finer than a microsecond: " + shift);
+        }
+        final long micros;
+        try {
+            micros = Math.addExact(Math.multiplyExact(shift.getSeconds(), 1_000_000L), shift.getNano() / 1_000);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Shift out of range: " + shift, e);
+        }
+        if (micros == 0) {
+            return 0;
+        }
+        // Lock the rows first, in id order. The update alone takes them in
+        // the order of idx_flight_origin_scheduled_at, which concurrent
+        // shifts change, and deadlocks. Rolling such a transaction back can
+        // leave H2 1.4.200 with a row behind its indexes (see FlightUpdater)
+        entityManager.createNativeQuery("select id from flight where origin = ? order by id for update")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Flight.class)
+                .setParameter(1, origin)
+                .getResultList();
+        // H2 syntax, JPQL has no date arithmetic. Seeks idx_flight_origin_scheduled_at
+        final int moved = entityManager.createNativeQuery("update flight "
+                + "set scheduled_at = dateadd('MICROSECOND', ?, scheduled_at), version = version + 1 "
+                + "where origin = ?")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Flight.class)
+                .setParameter(1, micros)
+                .setParameter(2, origin)
+                .executeUpdate();
+        if (moved > 0) {
+            eventPublisher.publishEvent(new FlightsRescheduledEvent(origin, shift));
+        }
+        return moved;
+    }
+}
@@ -0,0 +1,17 @@
+package com.tomboja.springdatajpa.repository;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Flights on one route, an origin and destination pair.
+ */
+
+public interface RouteCount {
+    String getOrigin();
+
+    String getDestination();
+
+    long getFlights();
+}
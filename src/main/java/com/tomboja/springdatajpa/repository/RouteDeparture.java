@@ -0,0 +1,21 @@
+package com.tomboja.springdatajpa.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * The first flight on a route after some time, ties broken by id.
+ */
+
+public interface RouteDeparture {
+    String getOrigin();
+
+    String getDestination();
+
+    Long getFlightId();
+
+    LocalDateTime getScheduledAt();
+}
@@ -0,0 +1,21 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public interface UpsertFlightRepository {
+
+    // Merges the flights by natural key (origin ignoring case, destination,
+    // scheduledAt) in JDBC batches: unknown flights are inserted, a known one
+    // is only written when its origin is spelled differently, so re-sent
+    // schedules leave unchanged rows alone. Of flights sharing a natural key
+    // the last one is written, the others count as unchanged. Flights are
+    // not given ids, and the persistence context is cleared when rows were
+    // updated
+    UpsertResult upsertAll(Iterable<Flight> flights);
+}
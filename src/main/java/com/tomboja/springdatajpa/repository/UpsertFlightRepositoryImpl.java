@@ -0,0 +1,145 @@
+package com.tomboja.springdatajpa.repository;
+
+import com.tomboja.springdatajpa.Flight;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class UpsertFlightRepositoryImpl implements UpsertFlightRepository {
+
+    private static final String NATURAL_KEY = "f.origin_upper is not distinct from s.origin_upper "
+            + "and f.destination is not distinct from s.destination "
+            + "and f.scheduled_at is not distinct from s.scheduled_at";
+
+    // Runs first, so the merge below finds every known flight matched
+    private static final String UPDATE = "update flight f set origin = ?, version = version + 1 "
+            + "where f.origin_upper is not distinct from ? and f.destination is not distinct from ? "
+            + "and f.scheduled_at is not distinct from ? and f.origin <> ?";
+
+    // H2 syntax. Ids come from flight_seq like FlightImporter's inserts
+    private static final String MERGE = "merge into flight f using (select cast(? as varchar(255)) origin, "
+            + "cast(? as varchar(255)) origin_upper, cast(? as varchar(255)) destination, "
+            + "cast(? as timestamp) scheduled_at) s on (" + NATURAL_KEY + ") "
+            + "when not matched then insert (id, origin, origin_upper, destination, scheduled_at) "
+            + "values (next value for flight_seq, s.origin, s.origin_upper, s.destination, s.scheduled_at)";
+
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public UpsertFlightRepositoryImpl(EntityManager entityManager, ApplicationEventPublisher eventPublisher,
+                                      @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int chunkSize) {
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Transactional
+    public UpsertResult upsertAll(Iterable<Flight> flights) {
+        // Pending changes must reach the database before flights are matched
+        entityManager.flush();
+        final long[] counts = new long[3];
+        final List<Flight> changed = new ArrayList<>();
+        final List<Flight> chunk = new ArrayList<>(chunkSize);
+        final Session session = entityManager.unwrap(Session.class);
+        session.doWork(connection -> {
+            for (Flight flight : flights) {
+                chunk.add(flight);
+                if (chunk.size() == chunkSize) {
+                    upsertChunk(connection, chunk, counts, changed);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                upsertChunk(connection, chunk, counts, changed);
+            }
+        });
+        final UpsertResult result = new UpsertResult(counts[0], counts[1], counts[2]);
+        if (result.getUpdated() > 0) {
+            // Managed and cached flights may hold the old spelling
+            entityManager.clear();
+            entityManager.getEntityManagerFactory().getCache().evict(Flight.class);
+        }
+        if (result.getInserted() > 0 || result.getUpdated() > 0) {
+            entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictQueryRegions();
+            eventPublisher.publishEvent(new FlightsUpsertedEvent(result, changed));
+        }
+        return result;
+    }
+
+    private void upsertChunk(Connection connection, List<Flight> flights, long[] counts, List<Flight> changed)
+            throws SQLException {
+        // The last flight with a natural key wins. All updates of a chunk run
+        // before its merges, left in the chunk an earlier duplicate would be
+        // inserted and the later one find it stored as given
+        final Map<List<Object>, Flight> latest = new LinkedHashMap<>();
+        for (Flight flight : flights) {
+            latest.put(naturalKey(flight), flight);
+        }
+        // Superseded flights are never written
+        counts[2] += flights.size() - latest.size();
+        final List<Flight> chunk = new ArrayList<>(latest.values());
+        final int[] updated;
+        try (PreparedStatement update = connection.prepareStatement(UPDATE)) {
+            for (Flight flight : chunk) {
+                update.setString(1, flight.getOrigin());
+                bindNaturalKey(update, 2, flight);
+                update.setString(5, flight.getOrigin());
+                update.addBatch();
+            }
+            updated = update.executeBatch();
+        }
+        final int[] inserted;
+        try (PreparedStatement merge = connection.prepareStatement(MERGE)) {
+            for (Flight flight : chunk) {
+                merge.setString(1, flight.getOrigin());
+                bindNaturalKey(merge, 2, flight);
+                merge.addBatch();
+            }
+            inserted = merge.executeBatch();
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            if (inserted[i] > 0) {
+                counts[0]++;
+                changed.add(chunk.get(i));
+            } else if (updated[i] > 0) {
+                counts[1]++;
+                changed.add(chunk.get(i));
+            } else {
+                counts[2]++;
+            }
+        }
+    }
+
+    private static List<Object> naturalKey(Flight flight) {
+        return Arrays.asList(Flight.normalizeOrigin(flight.getOrigin()), flight.getDestination(),
+                flight.getScheduledAt());
+    }
+
+    private static void bindNaturalKey(PreparedStatement statement, int index, Flight flight) throws SQLException {
+        statement.setString(index, Flight.normalizeOrigin(flight.getOrigin()));
+        statement.setString(index + 1, flight.getDestination());
+        statement.setTimestamp(index + 2, flight.getScheduledAt() == null
+                ? null : Timestamp.valueOf(flight.getScheduledAt()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.tomboja.springdatajpa.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class UpsertResult {
+    // Flights that had no row with their natural key
+    private final long inserted;
+    // Flights matching a row spelled differently, the row took the new spelling
+    private final long updated;
+    // Flights already stored as given, not written
+    private final long unchanged;
+}
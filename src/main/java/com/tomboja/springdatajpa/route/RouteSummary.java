@@ -0,0 +1,199 @@
+package com.tomboja.springdatajpa.route;
+
+import com.tomboja.springdatajpa.changes.FlightChange;
+import com.tomboja.springdatajpa.changes.FlightChangeLog;
+import com.tomboja.springdatajpa.repository.RouteCount;
+import com.tomboja.springdatajpa.repository.RouteDeparture;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Flights per route kept in route_summary, so that route dashboards read a
+ * row per route. The table follows the flight change feed: each batch of
+ * changes is folded into the counts in one transaction, together with the
+ * sequence it ends at, and the counts trail committed writes by about
+ * flights.changes.poll-interval. Next departures are looked up per route
+ * in idx_flight_origin_destination.
+ *
+ * A scheduled reconcile counts every route again, repairing counts that
+ * missed changes, such as ones pruned from the log before they were
+ * delivered. Changes the feed delivers afterwards that the recount already
+ * covers are skipped by sequence.
+ */
+
+@Slf4j
+public class RouteSummary {
+
+    private static final String[] SCHEMA = {
+            "create table if not exists route_summary ("
+                    + "origin varchar(255) not null, "
+                    + "destination varchar(255) not null, "
+                    + "flights bigint not null, "
+                    + "primary key (origin, destination))",
+            "create table if not exists route_summary_position (id int primary key, seq bigint not null)"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshot;
+    private final FlightChangeLog changeLog;
+
+    public RouteSummary(DataSource dataSource, PlatformTransactionManager transactionManager,
+                        FlightChangeLog changeLog) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshot = new TransactionTemplate(transactionManager);
+        // H2 takes repeatable read snapshots table by table, serializable ones
+        // of every table at the first statement
+        this.snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+        this.changeLog = changeLog;
+    }
+
+    public void install() {
+        for (String statement : SCHEMA) {
+            jdbcTemplate.execute(statement);
+        }
+    }
+
+    /**
+     * Counts every route again and returns the sequence of the last change
+     * counted. The changes committed in the snapshot counted are numbered in
+     * the same snapshot, every later one comes after the position saved.
+     */
+    public synchronized long rebuild() {
+        // The snapshot's numbering holds the sequencer until it commits
+        final Long position = snapshot.execute(status -> rebuildSnapshot());
+        return position == null ? 0 : position;
+    }
+
+    private long rebuildSnapshot() {
+        final long latest = changeLog.sequence();
+        jdbcTemplate.update("delete from route_summary");
+        jdbcTemplate.update("insert into route_summary (origin, destination, flights) "
+                + "select origin, destination, count(*) from flight "
+                + "where origin is not null and destination is not null group by origin, destination");
+        savePosition(latest);
+        return latest;
+    }
+
+    /** Rebuilds on flights.route-summary.reconcile-cron, never while a batch is being applied. */
+    @Scheduled(cron = "${flights.route-summary.reconcile-cron:0 0 4 * * *}")
+    public long reconcile() {
+        final long position = rebuild();
+        log.info("Recounted flights per route up to change {}", position);
+        return position;
+    }
+
+    /** Sequence of the last change folded in, -1 before the first rebuild. */
+    public long position() {
+        final List<Long> position = jdbcTemplate.queryForList(
+                "select seq from route_summary_position where id = 1", Long.class);
+        return position.isEmpty() ? -1 : position.get(0);
+    }
+
+    /** Folds a batch of the change feed into the counts, skipping those counted already. */
+    public synchronized void apply(List<FlightChange> changes) {
+        final long position = position();
+        final Map<Route, Long> deltas = new LinkedHashMap<>();
+        for (FlightChange change : changes) {
+            if (change.getSequence() <= position) {
+                continue;
+            }
+            switch (change.getType()) {
+                case INSERT:
+                    add(deltas, change.getOrigin(), change.getDestination(), 1);
+                    break;
+                case UPDATE:
+                    add(deltas, change.getPreviousOrigin(), change.getPreviousDestination(), -1);
+                    add(deltas, change.getOrigin(), change.getDestination(), 1);
+                    break;
+                case DELETE:
+                    add(deltas, change.getOrigin(), change.getDestination(), -1);
+                    break;
+                default:
+            }
+        }
+        final long last = changes.get(changes.size() - 1).getSequence();
+        if (last <= position) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            deltas.forEach((route, delta) -> {
+                if (delta != 0 && jdbcTemplate.update(
+                        "update route_summary set flights = flights + ? where origin = ? and destination = ?",
+                        delta, route.getOrigin(), route.getDestination()) == 0) {
+                    jdbcTemplate.update("insert into route_summary (origin, destination, flights) values (?, ?, ?)",
+                            route.getOrigin(), route.getDestination(), delta);
+                }
+            });
+            jdbcTemplate.update("delete from route_summary where flights <= 0");
+            savePosition(last);
+        });
+    }
+
+    public List<RouteCount> findRouteCounts() {
+        return jdbcTemplate.query("select origin, destination, flights from route_summary "
+                        + "order by origin, destination",
+                (rs, rowNum) -> new Count(rs.getString("origin"), rs.getString("destination"),
+                        rs.getLong("flights")));
+    }
+
+    /** The first flight on every route after the given time, one seek per route. */
+    public List<RouteDeparture> findNextDeparturesAfter(LocalDateTime after) {
+        return jdbcTemplate.query("select r.origin, r.destination, f.id, f.scheduled_at from route_summary r "
+                        + "join flight f on f.id = (select g.id from flight g "
+                        + "where g.origin = r.origin and g.destination = r.destination and g.scheduled_at > ? "
+                        + "order by g.scheduled_at, g.id limit 1) "
+                        + "order by r.origin, r.destination",
+                (rs, rowNum) -> new Departure(rs.getString("origin"), rs.getString("destination"),
+                        rs.getLong("id"), rs.getObject("scheduled_at", LocalDateTime.class)),
+                after);
+    }
+
+    private void savePosition(long sequence) {
+        if (jdbcTemplate.update("update route_summary_position set seq = ? where id = 1", sequence) == 0) {
+            jdbcTemplate.update("insert into route_summary_position (id, seq) values (1, ?)", sequence);
+        }
+    }
+
+    private static void add(Map<Route, Long> deltas, String origin, String destination, long delta) {
+        if (origin != null && destination != null) {
+            deltas.merge(new Route(origin, destination), delta, Long::sum);
+        }
+    }
+
+    @Value
+    private static class Route {
+        String origin;
+        String destination;
+    }
+
+    @Value
+    private static class Count implements RouteCount {
+        String origin;
+        String destination;
+        long flights;
+    }
+
+    @Value
+    private static class Departure implements RouteDeparture {
+        String origin;
+        String destination;
+        Long flightId;
+        LocalDateTime scheduledAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.tomboja.springdatajpa.route;
+
+import com.tomboja.springdatajpa.changes.FlightChangeFeed;
+import com.tomboja.springdatajpa.changes.FlightChangeLog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Needs flights.changes.enabled: the summary is kept from the change feed.
+ */
+
+@Configuration
+@ConditionalOnProperty(name = "flights.route-summary.enabled", havingValue = "true")
+@EnableScheduling
+public class RouteSummaryConfiguration {
+
+    @Bean
+    public RouteSummary routeSummary(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                     FlightChangeLog flightChangeLog, FlightChangeFeed flightChangeFeed) {
+        final RouteSummary summary = new RouteSummary(dataSource, transactionManager, flightChangeLog);
+        summary.install();
+        // Resumes where the table left off, or counts every route once
+        final long position = summary.position();
+        flightChangeFeed.subscribe(position < 0 ? summary.rebuild() : position, summary::apply);
+        return summary;
+    }
+}
@@ -0,0 +1,125 @@
+package com.tomboja.springdatajpa.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Writes a heartbeat row on the primary and reads it back from every
+ * replica. The difference to now is the replica lag, replicas lagging more
+ * than the allowed maximum (or not answering) are reported unhealthy until
+ * they catch up.
+ */
+
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    static final String HEARTBEAT_TABLE = "replication_heartbeat";
+
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas;
+    private final Duration maxLag;
+    private final Map<String, Duration> lags = new ConcurrentHashMap<>();
+    private volatile List<String> healthy = Collections.emptyList();
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                             Duration interval) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = new LinkedHashMap<>();
+        replicas.forEach((name, dataSource) -> this.replicas.put(name, new JdbcTemplate(dataSource)));
+        this.maxLag = maxLag;
+        this.primary.execute("create table if not exists " + HEARTBEAT_TABLE
+                + " (id int primary key, beat_at timestamp not null)");
+        refresh();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes a new heartbeat and measures every replica against the previous
+     * ones. Runs on a schedule, call it directly to re-evaluate immediately.
+     */
+    public synchronized void refresh() {
+        final Instant now = Instant.now();
+        try {
+            if (primary.update("update " + HEARTBEAT_TABLE + " set beat_at = ? where id = 1",
+                    Timestamp.from(now)) == 0) {
+                primary.update("insert into " + HEARTBEAT_TABLE + " (id, beat_at) values (1, ?)",
+                        Timestamp.from(now));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not write the replication heartbeat on the primary", e);
+        }
+
+        final List<String> caughtUp = new ArrayList<>();
+        replicas.forEach((name, replica) -> {
+            final Duration lag = measure(name, replica, now);
+            if (lag == null) {
+                lags.remove(name);
+            } else {
+                lags.put(name, lag);
+                if (lag.compareTo(maxLag) <= 0) {
+                    caughtUp.add(name);
+                }
+            }
+        });
+        if (!caughtUp.equals(healthy)) {
+            log.info("Replicas serving reads: {} (lag {})", caughtUp, lags);
+        }
+        healthy = Collections.unmodifiableList(caughtUp);
+    }
+
+    /** Replicas within the allowed lag, in configuration order. */
+    public List<String> getHealthyReplicas() {
+        return healthy;
+    }
+
+    /** Last measured lag per replica, missing when the replica did not answer. */
+    public Map<String, Duration> getLags() {
+        return Collections.unmodifiableMap(lags);
+    }
+
+    private Duration measure(String name, JdbcTemplate replica, Instant now) {
+        try {
+            final List<Timestamp> beats = replica.queryForList(
+                    "select beat_at from " + HEARTBEAT_TABLE + " where id = 1", Timestamp.class);
+            if (beats.isEmpty()) {
+                return null;
+            }
+            final Duration lag = Duration.between(beats.get(0).toInstant(), now);
+            return lag.isNegative() ? Duration.ZERO : lag;
+        } catch (DataAccessException e) {
+            log.debug("Replica {} did not answer the heartbeat query", name, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
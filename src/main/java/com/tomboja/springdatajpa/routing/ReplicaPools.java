@@ -0,0 +1,39 @@
+package com.tomboja.springdatajpa.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Connection pools behind the routing DataSource. They are deliberately not
+ * DataSource beans, the routing DataSource is the only one the application
+ * (and the statement tracking proxy) sees.
+ */
+
+@Getter
+public class ReplicaPools implements AutoCloseable {
+
+    private final HikariDataSource primary;
+    private final Map<String, DataSource> replicas = new LinkedHashMap<>();
+
+    public ReplicaPools(HikariDataSource primary) {
+        this.primary = primary;
+    }
+
+    public void addReplica(String name, HikariDataSource replica) {
+        replicas.put(name, replica);
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(replica -> ((HikariDataSource) replica).close());
+        primary.close();
+    }
+}
@@ -0,0 +1,78 @@
+package com.tomboja.springdatajpa.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Replaces the auto-configured DataSource with one that sends read-only
+ * transactions to the replicas listed under flights.routing.replicas.
+ * The primary pool keeps using spring.datasource.* and spring.datasource.hikari.*.
+ */
+
+@Configuration
+@ConditionalOnProperty(name = "flights.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPools replicaPools(DataSourceProperties dataSourceProperties, ReplicaRoutingProperties properties,
+                                     Environment environment) {
+        final HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("flights-primary");
+
+        final ReplicaPools pools = new ReplicaPools(primary);
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            final ReplicaRoutingProperties.Replica replica = properties.getReplicas().get(i);
+            final HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("flights-replica-" + i);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            pools.addReplica("replica-" + i, pool);
+        }
+        return pools;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaPools pools, ReplicaRoutingProperties properties) {
+        return new ReplicaLagMonitor(pools.getPrimary(), pools.getReplicas(), properties.getMaxLag(),
+                properties.getHeartbeatInterval());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaPools pools, ReplicaLagMonitor replicaLagMonitor) {
+        final Map<Object, Object> targets = new HashMap<>(pools.getReplicas());
+        targets.put(ReplicaRoutingDataSource.PRIMARY, pools.getPrimary());
+
+        final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicaLagMonitor);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(pools.getPrimary());
+        routing.afterPropertiesSet();
+        // Defers picking the target until the first statement, by then the
+        // transaction has been marked read-only or not
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,75 @@
+package com.tomboja.springdatajpa.routing;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Routes read-only transactions to the replicas the {@link ReplicaLagMonitor}
+ * reports healthy, round robin, and everything else to the primary. Must sit
+ * behind a LazyConnectionDataSourceProxy, the read-only flag of a transaction
+ * is only known after its connection has been requested.
+ *
+ * A replica may not have caught up with writes the second-level and query
+ * caches already hold. Transactions sent to one still read those caches,
+ * but add nothing to them: what they load stays out of the regions every
+ * other transaction reads.
+ */
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        // Falls back to the primary while every replica is behind
+        final List<String> replicas = lagMonitor.getHealthyReplicas();
+        if (replicas.isEmpty()) {
+            return PRIMARY;
+        }
+        keepOutOfSharedCaches();
+        return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+
+    // The transaction's session exists by now, its connection is requested
+    // at the first statement. Restored for sessions outliving the transaction
+    private static void keepOutOfSharedCaches() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder) {
+                final Session session = ((EntityManagerHolder) resource).getEntityManager().unwrap(Session.class);
+                final CacheMode previous = session.getCacheMode();
+                session.setCacheMode(CacheMode.GET);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        session.setCacheMode(previous);
+                    }
+                });
+            }
+        }
+    }
+}
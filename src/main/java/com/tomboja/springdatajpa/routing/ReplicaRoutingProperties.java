@@ -0,0 +1,43 @@
+package com.tomboja.springdatajpa.routing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "flights.routing")
+public class ReplicaRoutingProperties {
+
+    /** Send read-only transactions to the replicas below. */
+    private boolean enabled = false;
+
+    /** Replicas further behind the primary than this are skipped. */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /** How often the primary heartbeat is written and the replica lag measured. */
+    private Duration heartbeatInterval = Duration.ofSeconds(1);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username = "sa";
+        private String password = "";
+
+        /** Connections per replica pool. */
+        private int maximumPoolSize = 10;
+    }
+}
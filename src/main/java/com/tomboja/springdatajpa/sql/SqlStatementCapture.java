@@ -0,0 +1,75 @@
+package com.tomboja.springdatajpa.sql;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Collects the SQL statements the current thread executes while it is open.
+ * Captures nest, a statement counts towards every capture open on the thread.
+ *
+ * <pre>
+ * try (SqlStatementCapture capture = SqlStatementCapture.open()) {
+ *     flightRepository.findByOrigin("London");
+ *     capture.getCount();
+ * }
+ * </pre>
+ */
+
+public final class SqlStatementCapture implements AutoCloseable {
+
+    private static final int MAX_KEPT_STATEMENTS = 100;
+    private static final ThreadLocal<Deque<SqlStatementCapture>> OPEN = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final List<String> statements = new ArrayList<>();
+    private int count;
+    private long elapsedMillis;
+
+    private SqlStatementCapture() {
+    }
+
+    public static SqlStatementCapture open() {
+        final SqlStatementCapture capture = new SqlStatementCapture();
+        OPEN.get().push(capture);
+        return capture;
+    }
+
+    static void record(String sql, long elapsedMillis) {
+        for (SqlStatementCapture capture : OPEN.get()) {
+            capture.count++;
+            capture.elapsedMillis += elapsedMillis;
+            if (capture.statements.size() < MAX_KEPT_STATEMENTS) {
+                capture.statements.add(sql);
+            }
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public Duration getElapsed() {
+        return Duration.ofMillis(elapsedMillis);
+    }
+
+    /** The first statements executed, in order. */
+    public List<String> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    @Override
+    public void close() {
+        final Deque<SqlStatementCapture> open = OPEN.get();
+        open.remove(this);
+        if (open.isEmpty()) {
+            OPEN.remove();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.tomboja.springdatajpa.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Feeds every executed statement to the open {@link SqlStatementCapture}s and
+ * logs the ones slower than the threshold together with their bind parameters.
+ */
+
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private final long slowThresholdMillis;
+    private final DefaultQueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+
+    public SqlStatementListener(Duration slowThreshold) {
+        this.slowThresholdMillis = slowThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        final long elapsed = execInfo.getElapsedTime();
+        for (QueryInfo queryInfo : queryInfoList) {
+            SqlStatementCapture.record(queryInfo.getQuery(), elapsed);
+        }
+        if (elapsed >= slowThresholdMillis) {
+            log.warn("Slow SQL ({} ms): {}", elapsed,
+                    logEntryCreator.getLogEntry(execInfo, queryInfoList, false, false));
+        }
+    }
+}
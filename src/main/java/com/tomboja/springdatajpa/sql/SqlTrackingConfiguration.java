@@ -0,0 +1,92 @@
+package com.tomboja.springdatajpa.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Counts and times the SQL statements each repository call issues. The
+ * DataSource is wrapped in a datasource-proxy that feeds
+ * {@link SqlStatementListener}, and every repository method runs inside a
+ * {@link SqlStatementCapture} whose count is published as
+ * flights.repository.statements.
+ */
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "flights.sql.tracking.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTrackingConfiguration {
+
+    public static final String STATEMENTS_METRIC = "flights.repository.statements";
+
+    @Bean
+    public static BeanPostProcessor sqlTrackingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                final Duration threshold = environment.getProperty("flights.sql.slow-query-threshold",
+                        Duration.class, Duration.ofMillis(100));
+                return ProxyDataSourceBuilder.create((DataSource) bean)
+                        .name(beanName)
+                        .listener(new SqlStatementListener(threshold))
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlTrackingRepositoryPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport) {
+                    ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                                    proxyFactory.addAdvice(statementCounter(
+                                            repositoryInformation.getRepositoryInterface().getSimpleName(),
+                                            meterRegistry))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static MethodInterceptor statementCounter(String repository, ObjectProvider<MeterRegistry> meterRegistry) {
+        return invocation -> {
+            try (SqlStatementCapture capture = SqlStatementCapture.open()) {
+                try {
+                    return invocation.proceed();
+                } finally {
+                    final String method = invocation.getMethod().getName();
+                    log.debug("{}.{} issued {} statements in {} ms", repository, method,
+                            capture.getCount(), capture.getElapsed().toMillis());
+                    meterRegistry.ifAvailable(registry -> DistributionSummary.builder(STATEMENTS_METRIC)
+                            .tag("repository", repository)
+                            .tag("method", method)
+                            .register(registry)
+                            .record(capture.getCount()));
+                }
+            }
+        };
+    }
+}
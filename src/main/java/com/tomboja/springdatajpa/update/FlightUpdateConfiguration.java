@@ -0,0 +1,34 @@
+package com.tomboja.springdatajpa.update;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Configuration
+@EnableConfigurationProperties(FlightUpdateProperties.class)
+public class FlightUpdateConfiguration {
+
+    @Bean
+    public FlightUpdater flightUpdater(FlightRepository flightRepository, EntityManager entityManager,
+                                       PlatformTransactionManager transactionManager, FlightUpdateProperties properties,
+                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        if (properties.getMaxAttempts() < 1) {
+            throw new IllegalStateException("flights.update.max-attempts must be at least one");
+        }
+        return new FlightUpdater(flightRepository, entityManager, transactionManager, properties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
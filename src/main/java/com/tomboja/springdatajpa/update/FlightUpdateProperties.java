@@ -0,0 +1,28 @@
+package com.tomboja.springdatajpa.update;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "flights.update")
+public class FlightUpdateProperties {
+
+    /** Tries per update before a version conflict is given up on. */
+    private int maxAttempts = 5;
+
+    /** Wait before the first retry, doubled after every further conflict. */
+    private Duration initialBackoff = Duration.ofMillis(10);
+
+    /** Longest wait between two tries. */
+    private Duration maxBackoff = Duration.ofMillis(500);
+}
@@ -0,0 +1,122 @@
+package com.tomboja.springdatajpa.update;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Read-modify-write of one flight under optimistic locking. When another
+ * writer commits the flight first the change is applied again to a fresh
+ * copy, after a randomised, exponentially growing pause so that writers
+ * colliding on the same flight spread out instead of colliding again.
+ * No lock is held while the flight is read and changed: its version is
+ * checked again under the row lock the write takes anyway, just before the
+ * change is written.
+ */
+
+@Slf4j
+public class FlightUpdater {
+
+    private final FlightRepository flightRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final FlightUpdateProperties properties;
+    private final Counter conflicts;
+
+    public FlightUpdater(FlightRepository flightRepository, EntityManager entityManager,
+                         PlatformTransactionManager transactionManager, FlightUpdateProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.flightRepository = flightRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.conflicts = Counter.builder("flights.update.conflicts")
+                .description("Flight updates that lost a version check and were tried again or given up")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Applies {@code change} to the flight and commits it, each try in a
+     * transaction of its own. The change may run more than once and must
+     * only depend on the flight it is given.
+     *
+     * @return the updated flight, empty if there is no flight with that id
+     * @throws OptimisticLockingFailureException when every try conflicted
+     */
+    public Optional<Flight> update(long id, Consumer<Flight> change) {
+        // Inside a caller's transaction the conflict surfaces at its commit, out of reach
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Flight updates are retried in their own transactions, "
+                    + "call update outside of a transaction");
+        }
+        long backoff = properties.getInitialBackoff().toNanos();
+        for (int attempt = 1; ; attempt++) {
+            OptimisticLockingFailureException conflict;
+            try {
+                final Optional<Flight> updated = transactionTemplate.execute(status -> tryUpdate(id, change));
+                if (updated != null) {
+                    return updated;
+                }
+                conflict = new ObjectOptimisticLockingFailureException(Flight.class, id);
+            } catch (OptimisticLockingFailureException e) {
+                conflict = e;
+            }
+            conflicts.increment();
+            if (attempt >= properties.getMaxAttempts()) {
+                throw conflict;
+            }
+            log.debug("Flight {} changed concurrently, try {} of {}", id, attempt + 1,
+                    properties.getMaxAttempts());
+            pause(backoff, conflict);
+            backoff = Math.min(backoff * 2, properties.getMaxBackoff().toNanos());
+        }
+    }
+
+    // Null when the flight changed since it was read. The changed copy is
+    // dropped, so is the second-level cache entry it may have been read from,
+    // and the transaction commits, having written nothing: H2 1.4.200 can put
+    // back an outdated copy of a row, behind its indexes, when a transaction
+    // that locked the row while its previous writer was still committing
+    // rolls back, as one losing the version check of its UPDATE would
+    private Optional<Flight> tryUpdate(long id, Consumer<Flight> change) {
+        final Optional<Flight> found = flightRepository.findById(id);
+        if (found.isPresent()) {
+            final Flight flight = found.get();
+            final Long version = flight.getVersion();
+            change.accept(flight);
+            if (!flightRepository.findVersionForUpdate(id).equals(Optional.ofNullable(version))) {
+                entityManager.detach(flight);
+                entityManager.getEntityManagerFactory().getCache().evict(Flight.class, id);
+                return null;
+            }
+        }
+        return found;
+    }
+
+    // Somewhere between half and all of the backoff
+    private static void pause(long backoff, OptimisticLockingFailureException conflict) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
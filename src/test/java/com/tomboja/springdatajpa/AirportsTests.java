@@ -0,0 +1,41 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.airport.Airports;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class AirportsTests {
+
+    @Test
+    public void shouldShareOneInstancePerCode() {
+        final Airports airports = new Airports(8);
+
+        final String first = airports.canonical(new String("LHR"));
+        final String second = airports.canonical(new String("LHR"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(airports.code(airports.find("LHR"))).isSameAs(first);
+        assertThat(airports.canonical(null)).isNull();
+    }
+
+    @Test
+    public void shouldPassCodesThroughOnceFull() {
+        final Airports airports = new Airports(2);
+        airports.id("LHR");
+        airports.id("CDG");
+
+        final String misspelled = new String("Lodnon");
+
+        assertThat(airports.canonical(misspelled)).isSameAs(misspelled);
+        assertThat(airports.find("Lodnon")).isEqualTo(Airports.NONE);
+        assertThat(airports.size()).isEqualTo(2);
+        assertThat(airports.id("CDG")).isEqualTo(1);
+    }
+}
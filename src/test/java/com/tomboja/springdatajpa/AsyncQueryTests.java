@@ -0,0 +1,79 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Not transactional: the queries run on other threads and only see committed flights.
+ */
+
+@SpringBootTest
+public class AsyncQueryTests {
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldFanOutLookupsConcurrently() {
+        flightRepository.save(createFlight("London", "Paris"));
+        flightRepository.save(createFlight("London", "Rome"));
+        flightRepository.save(createFlight("Madrid", "Paris"));
+        flightRepository.save(createFlight("Oslo", "Helsinki"));
+
+        final CompletableFuture<List<Flight>> fromLondon = flightRepository.findAsyncByOrigin("London");
+        final CompletableFuture<List<Flight>> londonToRome = flightRepository
+                .findAsyncFlightByOriginAndDestination("London", "Rome");
+        final CompletableFuture<List<Flight>> fromMadridOrOslo = flightRepository
+                .findAsyncByOriginIn(Arrays.asList("Madrid", "Oslo"));
+        CompletableFuture.allOf(fromLondon, londonToRome, fromMadridOrOslo).join();
+
+        assertThat(fromLondon.join()).hasSize(2);
+        assertThat(londonToRome.join()).hasSize(1);
+        assertThat(fromMadridOrOslo.join()).hasSize(2);
+    }
+
+    @Test
+    public void shouldRunOutsideTheCallersTransaction() {
+        flightRepository.save(createFlight("London", "Paris"));
+
+        final List<Flight> seenAsync = new TransactionTemplate(transactionManager).execute(status -> {
+            flightRepository.saveAndFlush(createFlight("London", "Rome"));
+            // Runs on the query executor, which cannot see the uncommitted flight
+            return flightRepository.findAsyncByOrigin("London").join();
+        });
+
+        assertThat(seenAsync).hasSize(1);
+        assertThat(flightRepository.findByOrigin("London")).hasSize(2);
+    }
+
+    private Flight createFlight(String origin, String destination) {
+        final Flight flight = new Flight();
+        flight.setOrigin(origin);
+        flight.setDestination(destination);
+        flight.setScheduledAt(LocalDateTime.parse("2022-05-01T06:00:00"));
+        return flight;
+    }
+}
@@ -0,0 +1,78 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.sql.SqlStatementCapture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@SpringBootTest
+@Transactional
+public class BatchInsertTests {
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    public void setUp() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldSaveFlightsInFlushedChunks() {
+        final List<Flight> flights = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            flights.add(createFlight("Flight - " + i));
+        }
+
+        final long saved;
+        final List<String> statements;
+        try (SqlStatementCapture capture = SqlStatementCapture.open()) {
+            saved = flightRepository.saveInBatches(flights);
+            statements = capture.getStatements();
+        }
+
+        assertThat(saved).isEqualTo(120);
+        // A JDBC batch is recorded once: chunks of 50, 50 and 20 inserts
+        assertThat(statements).filteredOn(sql -> sql.startsWith("insert into flight"))
+                .hasSize(3);
+        // Ids come from the pooled sequence, 50 per round trip
+        assertThat(statements).filteredOn(sql -> sql.contains("flight_seq"))
+                .hasSizeLessThanOrEqualTo(4);
+        assertThat(flightRepository.count()).isEqualTo(120);
+        assertThat(flights).allSatisfy(flight -> {
+            assertThat(flight.getId()).isNotNull();
+            assertThat(entityManager.contains(flight)).isFalse();
+        });
+        assertThat(flightRepository.findById(flights.get(119).getId()))
+                .get()
+                .usingRecursiveComparison()
+                .ignoringFields("originUpper")
+                .isEqualTo(flights.get(119));
+    }
+
+    private Flight createFlight(String destination) {
+        final Flight flight = new Flight();
+        flight.setOrigin("London");
+        flight.setDestination(destination);
+        flight.setScheduledAt(LocalDateTime.parse("2022-01-10T10:00:00"));
+        return flight;
+    }
+}
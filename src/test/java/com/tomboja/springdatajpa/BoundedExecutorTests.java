@@ -0,0 +1,47 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.async.BoundedExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class BoundedExecutorTests {
+
+    @Test
+    public void shouldNeverRunMoreTasksThanPermits() throws InterruptedException {
+        final ExecutorService unbounded = Executors.newCachedThreadPool();
+        final BoundedExecutor executor = new BoundedExecutor(unbounded, 3);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger highest = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(30);
+
+        for (int i = 0; i < 30; i++) {
+            executor.execute(() -> {
+                highest.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(highest.get()).isEqualTo(3);
+        executor.shutdown();
+    }
+}
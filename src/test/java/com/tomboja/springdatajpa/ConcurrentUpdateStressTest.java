@@ -0,0 +1,114 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.update.FlightUpdater;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Writer threads reschedule a handful of flights by one minute at a time,
+ * most through FlightUpdater and some through the bulk shift of a whole
+ * origin. Every flight must end up moved by exactly the number of changes
+ * that reported success: no update is lost to a concurrent one.
+ * Run with: mvn test -Pstress (-Dstress.writers=8 -Dstress.updates=500)
+ */
+
+@Tag("stress")
+@SpringBootTest(properties = {
+        // Bulk shifts hold row locks that entity updates wait for, beyond H2's 1 s default
+        "spring.datasource.url=jdbc:h2:mem:contention;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "flights.update.max-attempts=100",
+        "flights.update.initial-backoff=1ms",
+        "flights.update.max-backoff=50ms"})
+public class ConcurrentUpdateStressTest {
+    private static final LocalDateTime NOW = LocalDateTime.parse("2022-07-01T10:00:00");
+    private static final String[] ORIGINS = {"London", "Madrid"};
+    private static final int FLIGHTS_PER_ORIGIN = 4;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private FlightUpdater flightUpdater;
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldLoseNoUpdatesUnderContention() throws Exception {
+        final int writers = Integer.getInteger("stress.writers", 8);
+        final int updates = Integer.getInteger("stress.updates", 500);
+        final List<Flight> flights = new ArrayList<>();
+        for (String origin : ORIGINS) {
+            for (int i = 0; i < FLIGHTS_PER_ORIGIN; i++) {
+                final Flight flight = new Flight();
+                flight.setOrigin(origin);
+                flight.setDestination("Oslo");
+                flight.setScheduledAt(NOW);
+                flights.add(flightRepository.save(flight));
+            }
+        }
+        final AtomicIntegerArray moves = new AtomicIntegerArray(flights.size());
+        final AtomicInteger bulkShifts = new AtomicInteger();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(writers);
+        final long started = System.nanoTime();
+        final List<Future<?>> results = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            results.add(executor.submit(() -> {
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int u = 0; u < updates; u++) {
+                    if (random.nextInt(20) == 0) {
+                        final int origin = random.nextInt(ORIGINS.length);
+                        flightRepository.shiftScheduledAt(ORIGINS[origin], Duration.ofMinutes(1));
+                        for (int i = 0; i < FLIGHTS_PER_ORIGIN; i++) {
+                            moves.incrementAndGet(origin * FLIGHTS_PER_ORIGIN + i);
+                        }
+                        bulkShifts.incrementAndGet();
+                    } else {
+                        final int index = random.nextInt(flights.size());
+                        flightUpdater.update(flights.get(index).getId(),
+                                flight -> flight.setScheduledAt(flight.getScheduledAt().plusMinutes(1)));
+                        moves.incrementAndGet(index);
+                    }
+                }
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+        final double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("%n%,d changes (%,d bulk shifts) by %d writers in %.1f s, %,.0f changes/s%n",
+                writers * updates, bulkShifts.get(), writers, seconds, writers * updates / seconds);
+
+        for (int i = 0; i < flights.size(); i++) {
+            final int expected = moves.get(i);
+            assertThat(flightRepository.findById(flights.get(i).getId()))
+                    .hasValueSatisfying(flight -> assertThat(flight.getScheduledAt())
+                            .isEqualTo(NOW.plusMinutes(expected)));
+        }
+    }
+}
@@ -39,6 +39,20 @@ public class CustomRepoImplTest {
                 .isEqualTo(toKeep);
     }
 
+    @Test
+    public void shouldReportDeletedRows() {
+        flightRepository.save(createFlight("London"));
+        flightRepository.save(createFlight("London"));
+        flightRepository.save(createFlight("Paris"));
+
+        flightRepository.flush();
+
+        // A single DELETE, no per-row selects
+        Assertions.assertThat(SqlAssertions.assertExactStatementCount(1,
+                () -> flightRepository.deleteByOrigin("London"))).isEqualTo(2);
+        Assertions.assertThat(flightRepository.deleteByOrigin("London")).isZero();
+    }
+
     private Flight createFlight(String origin) {
         final Flight flight = new Flight();
         flight.setOrigin(origin);
@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.tomboja.springdatajpa.SqlAssertions.assertExactStatementCount;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -39,7 +40,9 @@ public class DerivedQueryTests {
         flightRepository.save(flight2);
         flightRepository.save(flight3);
 
-        List<Flight> flightsFromLondon = flightRepository.findByOrigin("London");
+        flightRepository.flush();
+
+        List<Flight> flightsFromLondon = assertExactStatementCount(1, () -> flightRepository.findByOrigin("London"));
 
         assertThat(flightsFromLondon)
                 .hasSize(2)
@@ -138,7 +141,8 @@ public class DerivedQueryTests {
         ArrayList<String> origins = new ArrayList<>();
         origins.add("London");
         origins.add("Madrid");
-        assertThat(flightRepository.findByOriginIn(origins))
+        flightRepository.flush();
+        assertThat(assertExactStatementCount(1, () -> flightRepository.findByOriginIn(origins)))
                 .hasSize(3);
 
         assertThat(flightRepository.findByOriginIn(origins))
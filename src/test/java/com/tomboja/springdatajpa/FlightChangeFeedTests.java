@@ -0,0 +1,212 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.changes.ChangeType;
+import com.tomboja.springdatajpa.changes.FlightChange;
+import com.tomboja.springdatajpa.changes.FlightChangeFeed;
+import com.tomboja.springdatajpa.changes.FlightChangeLog;
+import com.tomboja.springdatajpa.changes.FlightChangePage;
+import com.tomboja.springdatajpa.changes.FlightChangeSubscription;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Not transactional: changes are read after they commit. Subscribers are
+ * sent changes by explicit dispatch() calls only.
+ */
+
+@SpringBootTest(properties = {"flights.changes.enabled=true", "flights.changes.batch-size=2",
+        "flights.changes.poll-interval=1h"})
+public class FlightChangeFeedTests {
+    private static final LocalDateTime NOW = LocalDateTime.parse("2022-07-01T10:00:00");
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private FlightChangeLog flightChangeLog;
+
+    @Autowired
+    private FlightChangeFeed flightChangeFeed;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldLogEntityAndBulkWrites() {
+        final long start = flightChangeLog.sequence();
+        final Flight flight = flightRepository.save(new Flight(null, "London", "Paris", NOW));
+        flight.setDestination("Rome");
+        flightRepository.save(flight);
+        flightRepository.save(new Flight(null, "Madrid", "Oslo", NOW));
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> flightRepository.deleteByOrigin("London"));
+
+        flightChangeLog.sequence();
+        final FlightChangePage page = flightChangeLog.findChangesAfter(start, 10);
+
+        assertThat(page.getChanges())
+                .extracting(FlightChange::getType, FlightChange::getOrigin, FlightChange::getDestination,
+                        FlightChange::getVersion)
+                .containsExactly(
+                        tuple(ChangeType.INSERT, "London", "Paris", 0L),
+                        tuple(ChangeType.UPDATE, "London", "Rome", 1L),
+                        tuple(ChangeType.INSERT, "Madrid", "Oslo", 0L),
+                        tuple(ChangeType.DELETE, "London", "Rome", 1L));
+        assertThat(page.getChanges()).extracting(FlightChange::getSequence)
+                .containsExactly(start + 1, start + 2, start + 3, start + 4);
+        assertThat(page.getChanges().get(0).getFlightId()).isEqualTo(flight.getId());
+        assertThat(page.getLastSequence()).isEqualTo(start + 4);
+        assertThat(page.isMore()).isFalse();
+    }
+
+    @Test
+    public void shouldPageBySequence() {
+        final long start = flightChangeLog.sequence();
+        saveFlights("London", 5);
+
+        flightChangeLog.sequence();
+        final FlightChangePage first = flightChangeLog.findChangesAfter(start, 3);
+        final FlightChangePage second = flightChangeLog.findChangesAfter(first.getLastSequence(), 3);
+
+        assertThat(first.getChanges()).hasSize(3);
+        assertThat(first.isMore()).isTrue();
+        assertThat(second.getChanges()).hasSize(2);
+        assertThat(second.isMore()).isFalse();
+        assertThat(flightChangeLog.findChangesAfter(second.getLastSequence(), 3).getChanges()).isEmpty();
+    }
+
+    @Test
+    public void shouldNumberChangesOnceTheyCommit() throws SQLException {
+        final long start = flightChangeLog.sequence();
+        try (Connection longRunning = dataSource.getConnection();
+             Connection rolledBack = dataSource.getConnection()) {
+            longRunning.setAutoCommit(false);
+            rolledBack.setAutoCommit(false);
+            insertFlight(longRunning, "London");
+            insertFlight(rolledBack, "Paris");
+            saveFlights("Madrid", 1);
+
+            flightChangeLog.sequence();
+            final FlightChangePage committed = flightChangeLog.findChangesAfter(start, 10);
+            assertThat(committed.getChanges()).extracting(FlightChange::getOrigin).containsExactly("Madrid");
+            assertThat(committed.isMore()).isFalse();
+
+            rolledBack.rollback();
+            longRunning.commit();
+            flightChangeLog.sequence();
+            final FlightChangePage later = flightChangeLog.findChangesAfter(committed.getLastSequence(), 10);
+            assertThat(later.getChanges()).extracting(FlightChange::getOrigin).containsExactly("London");
+            assertThat(later.getLastSequence()).isEqualTo(committed.getLastSequence() + 1);
+        }
+    }
+
+    @Test
+    public void shouldReadNumberedChangesWithoutWriting() {
+        final long start = flightChangeLog.sequence();
+        saveFlights("London", 2);
+        final TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        final FlightChangePage unnumbered = readOnly.execute(status -> flightChangeLog.findChangesAfter(start, 10));
+        assertThat(unnumbered.getChanges()).isEmpty();
+        assertThat(flightChangeLog.latestSequence()).isEqualTo(start);
+
+        assertThat(flightChangeLog.sequence()).isEqualTo(start + 2);
+        final FlightChangePage numbered = readOnly.execute(status -> flightChangeLog.findChangesAfter(start, 10));
+        assertThat(numbered.getChanges()).extracting(FlightChange::getOrigin).containsExactly("London", "London");
+    }
+
+    @Test
+    public void shouldNumberOneSequencerAtATime() throws Exception {
+        final long start = flightChangeLog.sequence();
+        // Another application instance numbering the same database
+        try (Connection otherInstance = dataSource.getConnection();
+             Statement statement = otherInstance.createStatement()) {
+            otherInstance.setAutoCommit(false);
+            statement.executeQuery("select id from flight_change_sequencer where id = 1 for update").close();
+            saveFlights("London", 1);
+
+            final CompletableFuture<Long> waiting = CompletableFuture.supplyAsync(flightChangeLog::sequence);
+            Thread.sleep(100);
+            assertThat(waiting).isNotDone();
+
+            otherInstance.commit();
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo(start + 1);
+        }
+    }
+
+    @Test
+    public void shouldDeliverBatchesAndRetryFailedOnes() {
+        final List<List<FlightChange>> batches = new ArrayList<>();
+        final AtomicBoolean failed = new AtomicBoolean();
+        final FlightChangeSubscription subscription = flightChangeFeed.subscribe(changes -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("Consumer down");
+            }
+            batches.add(changes);
+        });
+        saveFlights("London", 5);
+
+        flightChangeFeed.dispatch();
+        assertThat(batches).isEmpty();
+        flightChangeFeed.dispatch();
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(batches.get(2).get(0).getSequence()).isEqualTo(subscription.getPosition());
+        subscription.cancel();
+        saveFlights("Madrid", 1);
+        flightChangeFeed.dispatch();
+        assertThat(batches).hasSize(3);
+    }
+
+    private static void insertFlight(Connection connection, String origin) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("insert into flight "
+                + "(id, origin, origin_upper, destination, scheduled_at) "
+                + "values (next value for flight_seq, ?, ?, 'Oslo', ?)")) {
+            statement.setString(1, origin);
+            statement.setString(2, Flight.normalizeOrigin(origin));
+            statement.setObject(3, NOW);
+            statement.executeUpdate();
+        }
+    }
+
+    private void saveFlights(String origin, int count) {
+        final List<Flight> flights = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            flights.add(new Flight(null, origin, "Oslo", NOW.plusMinutes(i)));
+        }
+        flightRepository.saveAll(flights);
+    }
+}
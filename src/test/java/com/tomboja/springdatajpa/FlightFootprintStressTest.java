@@ -0,0 +1,112 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.benchmark.FlightDataSeeder;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.tomboja.springdatajpa.benchmark.FlightDataSeeder.AIRPORTS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Measures the heap held by a list of flights loaded by findByOriginIn,
+ * against the same flights in the layout Flight had before (a String per
+ * code and a LocalDateTime per flight, as hydrated row by row), and reports
+ * both per million flights. The second-level cache is off so that it does
+ * not hold copies of the flights being measured.
+ * Run with: mvn test -Pstress (-Dstress.rows=200000)
+ */
+
+@Tag("stress")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/stress/footprint;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"})
+public class FlightFootprintStressTest {
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void shouldHoldLoadedFlightsInAFractionOfTheHeap() {
+        final int rows = Integer.getInteger("stress.rows", 100_000);
+        new FlightDataSeeder(jdbcTemplate).seed(rows);
+
+        // What each list retains: the heap it frees once dropped. Measured
+        // this way, nothing allocated or freed around the load counts. Only
+        // this array holds the lists, no local of this frame keeps one alive
+        final Object[] held = load(rows);
+        final long both = usedHeap();
+        held[1] = null;
+        final long compactOnly = usedHeap();
+        held[0] = null;
+        final long none = usedHeap();
+
+        final double compact = (compactOnly - none) / (double) rows;
+        final double before = (both - compactOnly) / (double) rows;
+        System.out.printf("%nHeap per 1M loaded flights: %,.0f MB before, %,.0f MB now (%.0f and %.0f bytes a flight)%n",
+                before, compact, before, compact);
+        assertThat(compact).isLessThan(before / 2);
+        assertThat(held).containsOnlyNulls();
+    }
+
+    // The loaded flights and the same flights in the previous layout
+    private Object[] load(int rows) {
+        final List<Flight> flights = flightRepository.findByOriginIn(Arrays.asList(AIRPORTS));
+        assertThat(flights).hasSize(rows);
+        final List<HydratedFlight> hydrated = new ArrayList<>(flights.size());
+        for (Flight flight : flights) {
+            hydrated.add(new HydratedFlight(flight));
+        }
+        return new Object[]{flights, hydrated};
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    // Flight as Hibernate used to fill it: fresh code strings, id and
+    // date-time for every row
+    private static class HydratedFlight {
+        private final Long id;
+        private final String origin;
+        private final String destination;
+        private final String originUpper;
+        private final LocalDateTime scheduledAt;
+        private final Long version;
+
+        HydratedFlight(Flight flight) {
+            this.id = Long.valueOf(flight.getId().longValue());
+            this.origin = copy(flight.getOrigin());
+            this.destination = copy(flight.getDestination());
+            this.originUpper = copy(Flight.normalizeOrigin(flight.getOrigin()));
+            final LocalDateTime at = flight.getScheduledAt();
+            this.scheduledAt = LocalDateTime.of(at.getYear(), at.getMonthValue(), at.getDayOfMonth(),
+                    at.getHour(), at.getMinute(), at.getSecond(), at.getNano());
+            this.version = flight.getVersion();
+        }
+
+        private static String copy(String code) {
+            return new String(code.toCharArray());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.ingest.FlightImportResult;
+import com.tomboja.springdatajpa.ingest.FlightImporter;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Small slices and batches so that every file goes through several parsers
+ * and writers.
+ */
+
+@SpringBootTest(properties = {
+        "flights.import.parsers=3",
+        "flights.import.writers=3",
+        "flights.import.batch-size=50",
+        "flights.import.queue-capacity=2",
+        "flights.import.chunk-size=1KB"
+})
+public class FlightImportTests {
+    private static final LocalDateTime NOW = LocalDateTime.parse("2022-07-01T10:00:00");
+
+    @Autowired
+    private FlightImporter flightImporter;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void shouldImportEveryLineOfTheFile() throws Exception {
+        final StringBuilder file = new StringBuilder("origin,destination,scheduled_at\r\n");
+        for (int i = 0; i < 2000; i++) {
+            file.append(i % 2 == 0 ? "london" : "Paris").append(",Oslo,")
+                    .append(NOW.plusMinutes(i)).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        file.append("Madrid, Oslo ,");
+
+        final FlightImportResult result = flightImporter.importFile(write(file));
+
+        assertThat(result.getImported()).isEqualTo(2001);
+        assertThat(result.getBatches()).isGreaterThanOrEqualTo(41);
+        assertThat(flightRepository.count()).isEqualTo(2001);
+        assertThat(flightRepository.findByOriginIgnoreCase("LONDON")).hasSize(1000);
+        assertThat(flightRepository.findByOrigin("Madrid"))
+                .singleElement()
+                .satisfies(flight -> {
+                    assertThat(flight.getDestination()).isEqualTo("Oslo");
+                    assertThat(flight.getScheduledAt()).isNull();
+                });
+    }
+
+    @Test
+    public void shouldKeepIdsApartFromRepositoryInserts() throws Exception {
+        flightRepository.save(createFlight());
+        flightImporter.importFile(write(new StringBuilder("Paris,Oslo,2022-07-01T10:00:00\n")));
+        flightRepository.save(createFlight());
+
+        assertThat(flightRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldReportMalformedLines() throws Exception {
+        final String line = "London,Oslo," + NOW + "\n";
+        final StringBuilder file = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            file.append(line);
+        }
+        file.append("London;Oslo;").append(NOW).append('\n');
+
+        assertThatThrownBy(() -> flightImporter.importFile(write(file)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Malformed flight at byte " + 500 * line.length());
+    }
+
+    private Path write(StringBuilder content) throws Exception {
+        return Files.write(directory.resolve("schedule.csv"), content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Flight createFlight() {
+        final Flight flight = new Flight();
+        flight.setOrigin("London");
+        flight.setDestination("Oslo");
+        flight.setScheduledAt(NOW);
+        return flight;
+    }
+}
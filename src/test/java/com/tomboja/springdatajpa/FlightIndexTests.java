@@ -0,0 +1,203 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.index.FlightIndex;
+import com.tomboja.springdatajpa.index.FlightIndexLoader;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.tomboja.springdatajpa.SqlAssertions.assertExactStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@SpringBootTest(properties = {
+        "flights.index.enabled=true",
+        // Lookups must come from the index, not from the query cache
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+public class FlightIndexTests {
+    private static final LocalDateTime NOW = LocalDateTime.parse("2022-07-01T12:00:00.123456");
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private FlightIndex flightIndex;
+
+    @Autowired
+    private FlightIndexLoader flightIndexLoader;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldAnswerLookupsFromTheIndexWithoutStatements() {
+        final Flight late = flightRepository.save(createFlight("London", "Paris", NOW.plusHours(2)));
+        final Flight early = flightRepository.save(createFlight("London", "Paris", NOW));
+        flightRepository.save(createFlight("London", "Rome", NOW.plusHours(1)));
+        flightRepository.save(createFlight("Madrid", "Paris", NOW));
+
+        final List<Flight> fromLondon = assertExactStatementCount(0, () -> flightRepository.findByOrigin("London"));
+        final List<Flight> toParis = assertExactStatementCount(0,
+                () -> flightRepository.findFlightByOriginAndDestination("London", "Paris"));
+
+        // Sorted by scheduledAt
+        assertThat(fromLondon).extracting(Flight::getDestination).containsExactly("Paris", "Rome", "Paris");
+        assertThat(toParis).usingRecursiveFieldByFieldElementComparatorIgnoringFields("originUpper")
+                .containsExactly(early, late);
+        assertThat(flightRepository.findFlightByOriginAndDestination("London", "Oslo")).isEmpty();
+        assertThat(flightRepository.findByOrigin("Nowhere")).isEmpty();
+    }
+
+    @Test
+    public void shouldFollowUpdatesAndDeletes() {
+        final Flight moved = flightRepository.save(createFlight("London", "Paris", NOW));
+        flightRepository.save(createFlight("Madrid", "Paris", NOW));
+
+        moved.setOrigin("Oslo");
+        flightRepository.save(moved);
+        assertThat(flightRepository.findByOrigin("London")).isEmpty();
+        assertThat(flightRepository.findByOrigin("Oslo")).extracting(Flight::getId).containsExactly(moved.getId());
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> flightRepository.deleteByOrigin("Madrid"));
+        assertThat(flightRepository.findByOrigin("Madrid")).isEmpty();
+    }
+
+    @Test
+    public void shouldFollowBulkReschedules() {
+        final Flight flight = flightRepository.save(createFlight("London", "Paris", NOW));
+        flightRepository.save(createFlight("Madrid", "Paris", NOW));
+
+        assertThat(flightRepository.shiftScheduledAt("London", Duration.ofMinutes(90))).isEqualTo(1);
+
+        assertThat(flightRepository.findByOrigin("London")).singleElement().satisfies(moved -> {
+            assertThat(moved.getScheduledAt()).isEqualTo(NOW.plusMinutes(90));
+            assertThat(moved.getVersion()).isEqualTo(flight.getVersion() + 1);
+        });
+        assertThat(flightRepository.findByOrigin("Madrid")).extracting(Flight::getScheduledAt).containsExactly(NOW);
+    }
+
+    @Test
+    public void shouldFollowUpserts() {
+        final Flight respelled = flightRepository.save(createFlight("LONDON", "Paris", NOW));
+        flightRepository.save(createFlight("Madrid", "Paris", NOW));
+
+        flightRepository.upsertAll(Arrays.asList(
+                createFlight("London", "Paris", NOW),
+                createFlight("London", "Rome", NOW)));
+
+        assertThat(flightRepository.findByOrigin("LONDON")).isEmpty();
+        assertThat(flightRepository.findByOrigin("London"))
+                .extracting(Flight::getDestination, Flight::getVersion)
+                .containsExactly(tuple("Paris", respelled.getVersion() + 1), tuple("Rome", 0L));
+        assertThat(flightRepository.findByOrigin("Madrid")).hasSize(1);
+    }
+
+    @Test
+    public void shouldIgnoreRolledBackWrites() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            flightRepository.save(createFlight("London", "Paris", NOW));
+            status.setRollbackOnly();
+        });
+
+        assertThat(flightRepository.findByOrigin("London")).isEmpty();
+    }
+
+    @Test
+    public void shouldMatchTheTableAfterReloadsRacingWrites() throws Exception {
+        final List<Flight> flights = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            flights.add(createFlight("Hub " + i % 4, "Paris", NOW.plusMinutes(i)));
+        }
+        flightRepository.saveInBatches(flights);
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final ExecutorService loader = Executors.newSingleThreadExecutor();
+        final Future<?> reloads = loader.submit(() -> {
+            while (writing.get()) {
+                flightIndexLoader.load();
+            }
+        });
+        try {
+            for (int i = 0; i < 300; i++) {
+                final Flight flight = flightRepository.findById(flights.get(i % 200).getId()).orElse(null);
+                if (i % 3 == 0) {
+                    flightRepository.save(createFlight("Hub " + i % 5, "Rome", NOW.minusMinutes(i)));
+                } else if (flight != null && i % 3 == 1) {
+                    flight.setOrigin("Hub " + i % 5);
+                    flightRepository.save(flight);
+                } else if (flight != null) {
+                    flightRepository.delete(flight);
+                }
+            }
+        } finally {
+            writing.set(false);
+            reloads.get();
+            loader.shutdown();
+        }
+
+        for (int hub = 0; hub < 5; hub++) {
+            final String origin = "Hub " + hub;
+            final List<String> stored = describe(flightRepository.findAll().stream()
+                    .filter(flight -> origin.equals(flight.getOrigin())));
+            // Listed, not collected into a set: a flight indexed twice shows
+            assertThat(describe(flightRepository.findByOrigin(origin).stream())).isEqualTo(stored);
+        }
+    }
+
+    @Test
+    public void shouldKeepFootprintFarBelowManagedEntities() {
+        final List<Flight> flights = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            flights.add(createFlight("Hub " + i % 20, "Flight " + i % 50, NOW.plusMinutes(i)));
+        }
+        flightRepository.saveInBatches(flights);
+
+        assertThat(flightIndex.size()).isEqualTo(2_000);
+        // 28 bytes of columns per flight plus growth headroom, against
+        // hundreds of bytes for a managed Flight with its snapshot
+        assertThat(flightIndex.bytesPerFlight()).isLessThan(40);
+    }
+
+    private static List<String> describe(Stream<Flight> flights) {
+        return flights.map(flight -> flight.getId() + "@" + flight.getVersion() + " to " + flight.getDestination())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private Flight createFlight(String origin, String destination, LocalDateTime time) {
+        final Flight flight = new Flight();
+        flight.setOrigin(origin);
+        flight.setDestination(destination);
+        flight.setScheduledAt(time);
+        return flight;
+    }
+}
@@ -0,0 +1,40 @@
+package com.tomboja.springdatajpa;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+public class FlightTests {
+
+    @Test
+    public void shouldKeepScheduledAtToTheMicrosecond() {
+        final Flight flight = new Flight();
+
+        flight.setScheduledAt(LocalDateTime.parse("1901-03-04T05:06:07.123456789"));
+        assertThat(flight.getScheduledAt()).isEqualTo(LocalDateTime.parse("1901-03-04T05:06:07.123456"));
+
+        flight.setScheduledAt(null);
+        assertThat(flight.getScheduledAt()).isNull();
+    }
+
+    @Test
+    public void shouldRejectScheduledAtOutOfRange() {
+        final Flight flight = new Flight();
+        flight.setScheduledAt(LocalDateTime.parse("2022-07-01T10:00:00"));
+
+        assertThatThrownBy(() -> flight.setScheduledAt(LocalDateTime.MAX))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> flight.setScheduledAt(LocalDateTime.MIN))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(flight.getScheduledAt()).isEqualTo(LocalDateTime.parse("2022-07-01T10:00:00"));
+    }
+}
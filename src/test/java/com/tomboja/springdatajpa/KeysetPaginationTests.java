@@ -0,0 +1,132 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightCursor;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.repository.FlightWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.transaction.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@SpringBootTest
+@Transactional
+public class KeysetPaginationTests {
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @BeforeEach
+    public void setUp() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldSeekThroughFlightsFromLondonByScheduledAt() {
+        final LocalDateTime now = LocalDateTime.parse("2022-01-01T10:00:00");
+        for (int i = 0; i < 12; i++) {
+            // Two flights share every departure time to exercise the id tie breaker
+            flightRepository.save(createFlight("London", "Flight - " + i, now.plusHours(i / 2)));
+            flightRepository.save(createFlight("Paris", "Flight - " + i, now.plusHours(i / 2)));
+        }
+
+        final List<String> destinations = new ArrayList<>();
+        FlightCursor cursor = FlightCursor.first(FlightCursor.Order.SCHEDULED_AT);
+        FlightWindow window;
+        int windows = 0;
+        do {
+            window = flightRepository.seekByOrigin("London", cursor, 5);
+            window.getContent().forEach(flight -> {
+                assertThat(flight.getOrigin()).isEqualTo("London");
+                destinations.add(flight.getDestination());
+            });
+            cursor = FlightCursor.decode(window.getNextCursor().encode());
+            windows++;
+        } while (window.hasNext());
+
+        assertThat(windows).isEqualTo(3);
+        assertThat(destinations).hasSize(12);
+        for (int i = 0; i < 12; i++) {
+            assertThat(destinations.get(i)).isEqualTo("Flight - " + i);
+        }
+    }
+
+    @Test
+    public void shouldSeekThroughAllFlightsByDestination() {
+        for (int i = 9; i >= 0; i--) {
+            flightRepository.save(createFlight("London", "Flight - " + i, LocalDateTime.now()));
+        }
+
+        final FlightWindow first = flightRepository
+                .seekAll(FlightCursor.first(FlightCursor.Order.DESTINATION), 4);
+        final FlightWindow second = flightRepository.seekAll(first.getNextCursor(), 4);
+        final FlightWindow last = flightRepository.seekAll(second.getNextCursor(), 4);
+
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.getContent().get(0).getDestination()).isEqualTo("Flight - 0");
+        assertThat(second.getContent().get(0).getDestination()).isEqualTo("Flight - 4");
+        assertThat(last.getContent()).hasSize(2);
+        assertThat(last.getContent().get(1).getDestination()).isEqualTo("Flight - 9");
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldSeekThroughFlightsWithoutSortKeyLast() {
+        final LocalDateTime now = LocalDateTime.parse("2022-01-01T10:00:00");
+        final List<Long> unscheduled = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            flightRepository.save(createFlight("London", "Flight - " + i, now.plusHours(i)));
+            unscheduled.add(flightRepository.save(createFlight("London", "Unscheduled - " + i, null)).getId());
+        }
+
+        final List<String> destinations = new ArrayList<>();
+        FlightCursor cursor = FlightCursor.first(FlightCursor.Order.SCHEDULED_AT);
+        FlightWindow window;
+        do {
+            window = flightRepository.seekByOrigin("London", cursor, 2);
+            window.getContent().forEach(flight -> destinations.add(flight.getDestination()));
+            cursor = FlightCursor.decode(window.getNextCursor().encode());
+        } while (window.hasNext());
+
+        assertThat(destinations).containsExactly("Flight - 0", "Flight - 1", "Flight - 2",
+                "Unscheduled - 0", "Unscheduled - 1", "Unscheduled - 2");
+        assertThat(cursor.getKey()).isNull();
+        assertThat(cursor.getId()).isEqualTo(unscheduled.get(2));
+        assertThat(flightRepository.seekByOriginScheduledBetween("London", now, now.plusDays(1),
+                FlightCursor.first(FlightCursor.Order.SCHEDULED_AT), 10).getContent()).hasSize(3);
+    }
+
+    @Test
+    public void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> FlightCursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        // Well formed but for the departure time
+        final String badKey = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("Snot-a-time|1".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> FlightCursor.decode(badKey))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Malformed flight cursor");
+    }
+
+    private Flight createFlight(String origin, String destination, LocalDateTime time) {
+        final Flight flight = new Flight();
+        flight.setOrigin(origin);
+        flight.setDestination(destination);
+        flight.setScheduledAt(time);
+        return flight;
+    }
+}
@@ -0,0 +1,98 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.sql.SqlStatementCapture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@SpringBootTest
+public class MultiOriginLookupTests {
+    @Autowired
+    private FlightRepository flightRepository;
+
+    private List<Long> expectedIds;
+
+    @BeforeEach
+    public void setUp() {
+        final List<Flight> flights = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            flights.add(flightRepository.save(createFlight(Arrays.asList("London", "Paris", "Madrid", "Oslo").get(i % 4))));
+        }
+        expectedIds = flights.stream()
+                .filter(flight -> !flight.getOrigin().equals("Oslo"))
+                .map(Flight::getId)
+                .collect(Collectors.toList());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldPadShortListsToSharedStatements() {
+        final List<String> statements = new ArrayList<>();
+        for (int size = 3; size <= 4; size++) {
+            try (SqlStatementCapture capture = SqlStatementCapture.open()) {
+                flightRepository.findByOriginIn(origins(size));
+                statements.addAll(capture.getStatements());
+            }
+        }
+
+        // Three and four origins both bind four parameters
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0)).isEqualTo(statements.get(1));
+    }
+
+    @Test
+    public void shouldMergeParallelBatchesById() {
+        // Three batches of 500
+        assertThat(flightRepository.findByOriginIn(origins(1_200)))
+                .extracting(Flight::getId)
+                .containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    public void shouldMatchVeryLongListsAgainstValuesList() {
+        assertThat(flightRepository.findByOriginIn(origins(6_000)))
+                .extracting(Flight::getId)
+                .containsExactlyElementsOf(expectedIds);
+        assertThat(flightRepository.findByOriginInJoined(Arrays.asList("Madrid", "Madrid")))
+                .hasSize(5)
+                .allSatisfy(flight -> assertThat(flight.getOrigin()).isEqualTo("Madrid"));
+    }
+
+    // London, Paris and Madrid, then origins without flights
+    private static List<String> origins(int size) {
+        final List<String> origins = new ArrayList<>(Arrays.asList("London", "Paris", "Madrid"));
+        for (int i = origins.size(); i < size; i++) {
+            origins.add("Nowhere " + i);
+        }
+        return origins;
+    }
+
+    private Flight createFlight(String origin) {
+        final Flight flight = new Flight();
+        flight.setOrigin(origin);
+        flight.setDestination("Helsinki");
+        flight.setScheduledAt(LocalDateTime.parse("2022-07-01T10:00:00"));
+        return flight;
+    }
+}
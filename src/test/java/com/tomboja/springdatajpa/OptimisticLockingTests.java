@@ -0,0 +1,130 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.update.FlightUpdater;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Not transactional, every save and update commits on its own.
+ */
+
+@SpringBootTest
+public class OptimisticLockingTests {
+    private static final LocalDateTime NOW = LocalDateTime.parse("2022-07-01T10:00:00");
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private FlightUpdater flightUpdater;
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldRejectStaleCopies() {
+        final long id = flightRepository.save(createFlight("London")).getId();
+        final Flight first = flightRepository.findById(id).orElseThrow();
+        final Flight second = flightRepository.findById(id).orElseThrow();
+
+        first.setDestination("Rome");
+        flightRepository.save(first);
+        second.setDestination("Paris");
+
+        assertThatThrownBy(() -> flightRepository.save(second))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(flightRepository.findById(id)).hasValueSatisfying(flight -> {
+            assertThat(flight.getDestination()).isEqualTo("Rome");
+            assertThat(flight.getVersion()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    public void shouldRetryUpdatesThatLostTheVersionCheck() {
+        final long id = flightRepository.save(createFlight("London")).getId();
+        final AtomicInteger attempts = new AtomicInteger();
+
+        flightUpdater.update(id, flight -> {
+            if (attempts.incrementAndGet() == 1) {
+                // Another writer commits between this read and its commit
+                CompletableFuture.runAsync(() -> flightUpdater.update(id, other -> other.setDestination("Rome")))
+                        .join();
+            }
+            flight.setScheduledAt(flight.getScheduledAt().plusHours(1));
+        });
+
+        assertThat(attempts).hasValue(2);
+        assertThat(flightRepository.findById(id)).hasValueSatisfying(flight -> {
+            assertThat(flight.getDestination()).isEqualTo("Rome");
+            assertThat(flight.getScheduledAt()).isEqualTo(NOW.plusHours(1));
+            assertThat(flight.getVersion()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    public void shouldReportMissingFlights() {
+        assertThat(flightUpdater.update(-1, flight -> flight.setDestination("Rome"))).isEmpty();
+    }
+
+    @Test
+    public void shouldShiftFlightsWithoutLoadingThem() {
+        final Flight stale = flightRepository.save(createFlight("London"));
+        flightRepository.save(createFlight("London"));
+        flightRepository.save(createFlight("Madrid"));
+
+        assertThat(flightRepository.shiftScheduledAt("London", Duration.ofMinutes(-30))).isEqualTo(2);
+
+        assertThat(flightRepository.findByOrigin("London")).hasSize(2).allSatisfy(flight -> {
+            assertThat(flight.getScheduledAt()).isEqualTo(NOW.minusMinutes(30));
+            assertThat(flight.getVersion()).isEqualTo(1);
+        });
+        assertThat(flightRepository.findByOrigin("Madrid")).extracting(Flight::getScheduledAt).containsExactly(NOW);
+        // Read before the shift, saving it would undo the shift
+        stale.setDestination("Rome");
+        assertThatThrownBy(() -> flightRepository.save(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    public void shouldShiftBySubMillisecondDurations() {
+        flightRepository.save(createFlight("London"));
+
+        assertThat(flightRepository.shiftScheduledAt("London", Duration.ofNanos(250_000))).isEqualTo(1);
+
+        assertThat(flightRepository.findByOrigin("London")).extracting(Flight::getScheduledAt)
+                .containsExactly(NOW.plusNanos(250_000));
+        assertThatThrownBy(() -> flightRepository.shiftScheduledAt("London", Duration.ofNanos(1)))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> flightRepository.shiftScheduledAt("London", Duration.ofSeconds(Long.MAX_VALUE)))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Flight createFlight(String origin) {
+        final Flight flight = new Flight();
+        flight.setOrigin(origin);
+        flight.setDestination("Oslo");
+        flight.setScheduledAt(NOW);
+        return flight;
+    }
+}
@@ -0,0 +1,67 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@SpringBootTest
+@Transactional
+public class OriginSearchTests {
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @BeforeEach
+    public void setUp() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldKeepNormalizedOriginInStepWithUpdates() {
+        final Flight flight = flightRepository.save(createFlight("london"));
+        flightRepository.flush();
+        assertThat(flightRepository.findByOriginIgnoreCase("LONDON")).containsExactly(flight);
+
+        flight.setOrigin("Lisbon");
+        flightRepository.flush();
+
+        assertThat(flightRepository.findByOriginIgnoreCase("london")).isEmpty();
+        assertThat(flightRepository.findByOriginIgnoreCase("LISBON")).containsExactly(flight);
+    }
+
+    @Test
+    public void shouldFindDistinctOriginsByPrefixIgnoringCase() {
+        for (String origin : new String[]{"London", "LONDON", "Lisbon", "Los Angeles", "Lyon", "Madrid", "lo%"}) {
+            flightRepository.save(createFlight(origin));
+            flightRepository.save(createFlight(origin));
+        }
+
+        assertThat(flightRepository.findOriginsStartingWith("lo", 10))
+                .containsExactly("LO%", "LONDON", "LOS ANGELES");
+        assertThat(flightRepository.findOriginsStartingWith("L", 3))
+                .containsExactly("LISBON", "LO%", "LONDON");
+        // Wildcards in the prefix are taken literally
+        assertThat(flightRepository.findOriginsStartingWith("lo%", 10)).containsExactly("LO%");
+        assertThat(flightRepository.findOriginsStartingWith("x", 10)).isEmpty();
+    }
+
+    private Flight createFlight(String origin) {
+        final Flight flight = new Flight();
+        flight.setOrigin(origin);
+        flight.setDestination("Oslo");
+        flight.setScheduledAt(LocalDateTime.parse("2022-07-01T10:00:00"));
+        return flight;
+    }
+}
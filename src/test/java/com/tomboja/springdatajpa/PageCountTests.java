@@ -0,0 +1,125 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.count.FlightCounts;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.tomboja.springdatajpa.SqlAssertions.assertExactStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Not transactional: the counters follow committed writes only.
+ */
+
+@SpringBootTest
+public class PageCountTests {
+    private static final LocalDateTime NOW = LocalDateTime.parse("2022-07-01T10:00:00");
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 5, Sort.by("scheduledAt", "id"));
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private FlightCounts flightCounts;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setUp() {
+        flightCounts.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldCountOncePerOrigin() {
+        saveFlights("London", 12);
+        saveFlights("Madrid", 3);
+
+        final Page<Flight> exact = flightRepository.findByOrigin("London", FIRST_PAGE);
+        final Page<Flight> counted = assertExactStatementCount(2,
+                () -> flightRepository.findByOriginWithCachedCount("London", FIRST_PAGE));
+        final Page<Flight> cached = assertExactStatementCount(1,
+                () -> flightRepository.findByOriginWithCachedCount("London", FIRST_PAGE.next()));
+
+        assertThat(counted.getContent()).extracting(Flight::getId)
+                .containsExactlyElementsOf(exact.map(Flight::getId).getContent());
+        assertThat(counted.getTotalElements()).isEqualTo(12);
+        assertThat(cached.getTotalElements()).isEqualTo(12);
+        assertThat(cached.getTotalPages()).isEqualTo(3);
+        assertThat(flightRepository.findAllWithCachedCount(FIRST_PAGE).getTotalElements()).isEqualTo(15);
+    }
+
+    @Test
+    public void shouldFollowCommittedSavesAndDeletes() {
+        saveFlights("London", 6);
+        assertThat(flightRepository.findByOriginWithCachedCount("London", FIRST_PAGE).getTotalElements())
+                .isEqualTo(6);
+        assertThat(flightRepository.findAllWithCachedCount(FIRST_PAGE).getTotalElements()).isEqualTo(6);
+
+        saveFlights("London", 2);
+        final Flight moved = flightRepository.findByOrigin("London").get(0);
+        moved.setOrigin("Madrid");
+        flightRepository.save(moved);
+        flightRepository.delete(flightRepository.findByOrigin("London").get(0));
+
+        assertThat(assertExactStatementCount(1, () -> flightRepository.findByOriginWithCachedCount("London",
+                FIRST_PAGE).getTotalElements())).isEqualTo(6);
+        assertThat(flightRepository.findAllWithCachedCount(FIRST_PAGE).getTotalElements()).isEqualTo(7);
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> flightRepository.deleteByOrigin("London"));
+        assertThat(flightRepository.findByOriginWithCachedCount("London", FIRST_PAGE).getTotalElements())
+                .isZero();
+        assertThat(flightRepository.findAllWithCachedCount(FIRST_PAGE).getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldSliceWithoutCounting() {
+        saveFlights("London", 7);
+
+        final Slice<Flight> first = assertExactStatementCount(1,
+                () -> flightRepository.findSliceByOrigin("London", FIRST_PAGE));
+        final Slice<Flight> second = flightRepository.findSliceByOrigin("London", first.nextPageable());
+
+        assertThat(first.getContent()).hasSize(5);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(flightRepository.findSliceBy(PageRequest.of(1, 4)).getContent()).hasSize(3);
+    }
+
+    private void saveFlights(String origin, int count) {
+        final List<Flight> flights = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Flight flight = new Flight();
+            flight.setOrigin(origin);
+            flight.setDestination("Oslo");
+            flight.setScheduledAt(NOW.plusMinutes(i));
+            flights.add(flight);
+        }
+        flightRepository.saveAll(flights);
+    }
+}
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.tomboja.springdatajpa.SqlAssertions.assertStatementCount;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.springframework.data.domain.Sort.Direction.DESC;
 
@@ -162,8 +163,11 @@ public class PagingAndSortingTests {
             flightRepository.save(createFlight2(destination, LocalDateTime.now()));
         }
 
-        final Page<Flight> page = flightRepository
-                .findByOrigin("London", PageRequest.of(0, 5, Sort.by(DESC, "destination")));
+        flightRepository.flush();
+
+        // One select for the page and one count
+        final Page<Flight> page = assertStatementCount(2, () -> flightRepository
+                .findByOrigin("London", PageRequest.of(0, 5, Sort.by(DESC, "destination"))));
         assertThat(page.getTotalElements()).isEqualTo(10);
         assertThat(page.getTotalPages()).isEqualTo(2);
         assertThat(page.getNumberOfElements()).isEqualTo(5);
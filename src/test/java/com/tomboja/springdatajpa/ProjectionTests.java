@@ -0,0 +1,104 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.repository.FlightSummary;
+import com.tomboja.springdatajpa.repository.FlightView;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@SpringBootTest
+@Transactional
+public class ProjectionTests {
+    private static final LocalDateTime DEPARTURE = LocalDateTime.parse("2022-04-01T09:15:00");
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    public void setUp() {
+        flightRepository.deleteAll();
+        flightRepository.save(createFlight("London", "Paris", DEPARTURE));
+        flightRepository.save(createFlight("London", "Rome", DEPARTURE.plusHours(1)));
+        flightRepository.save(createFlight("Madrid", "Paris", DEPARTURE.plusHours(2)));
+        // Start every test from an empty persistence context
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void shouldProjectFlightsFromLondonWithoutManagingEntities() {
+        final List<FlightSummary> summaries = flightRepository.findByOrigin("London", FlightSummary.class);
+
+        assertThat(summaries).hasSize(2);
+        assertThat(summaries.get(0).getDestination()).isEqualTo("Paris");
+        assertThat(summaries.get(0).getScheduledAt()).isEqualTo(DEPARTURE);
+        assertThat(managedEntities()).isZero();
+    }
+
+    @Test
+    public void shouldProjectIntoDtos() {
+        assertThat(flightRepository.findFlightByOriginAndDestination("London", "Rome", FlightView.class))
+                .containsExactly(new FlightView("London", "Rome", DEPARTURE.plusHours(1)));
+        assertThat(flightRepository.findByOriginIn(Arrays.asList("London", "Madrid"), FlightView.class))
+                .hasSize(3);
+        assertThat(managedEntities()).isZero();
+    }
+
+    @Test
+    public void shouldPageProjections() {
+        final Page<FlightView> page = flightRepository
+                .findByOrigin("London", PageRequest.of(0, 1, Sort.by("scheduledAt")), FlightView.class);
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).containsExactly(new FlightView("London", "Paris", DEPARTURE));
+    }
+
+    @Test
+    public void shouldProjectIgnoringCaseAndIntoTuples() {
+        final List<FlightSummary> summaries = flightRepository.findSummariesByOriginIgnoreCase("madrid");
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getOrigin()).isEqualTo("Madrid");
+
+        final List<Tuple> tuples = flightRepository.findTuplesByOrigin("London");
+        assertThat(tuples).hasSize(2);
+        assertThat(tuples.get(0).get("destination", String.class)).isEqualTo("Paris");
+        assertThat(tuples.get(0).get("scheduledAt", LocalDateTime.class)).isEqualTo(DEPARTURE);
+        assertThat(managedEntities()).isZero();
+    }
+
+    private int managedEntities() {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+    }
+
+    private Flight createFlight(String origin, String destination, LocalDateTime scheduledAt) {
+        final Flight flight = new Flight();
+        flight.setOrigin(origin);
+        flight.setDestination(destination);
+        flight.setScheduledAt(scheduledAt);
+        return flight;
+    }
+}
@@ -0,0 +1,91 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.repository.PurgeResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Not transactional so that every chunk commits on its own.
+ */
+
+@SpringBootTest
+public class PurgeTests {
+    private static final LocalDateTime NOW = LocalDateTime.parse("2022-06-01T12:00:00");
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldPurgeOriginsInChunks() {
+        final List<Flight> flights = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            flights.add(createFlight("London", NOW));
+            flights.add(createFlight("Madrid", NOW));
+            flights.add(createFlight("Paris", NOW));
+        }
+        flightRepository.saveAll(flights);
+
+        final PurgeResult result = flightRepository.purgeByOrigin(Arrays.asList("London", "Madrid"), null, 10);
+
+        assertThat(result.getDeleted()).isEqualTo(50);
+        assertThat(result.getChunks()).isEqualTo(5);
+        assertThat(flightRepository.findAll())
+                .hasSize(25)
+                .allSatisfy(flight -> assertThat(flight.getOrigin()).isEqualTo("Paris"));
+    }
+
+    @Test
+    public void shouldOnlyPurgeFlightsScheduledBeforeCutoff() {
+        for (int day = 0; day < 100; day++) {
+            flightRepository.save(createFlight("London", NOW.minusDays(day)));
+        }
+
+        final PurgeResult result = flightRepository
+                .purgeByOrigin(Collections.singleton("London"), NOW.minusDays(90), 4);
+
+        assertThat(result.getDeleted()).isEqualTo(9);
+        assertThat(flightRepository.findByOrigin("London"))
+                .hasSize(91)
+                .allSatisfy(flight -> assertThat(flight.getScheduledAt()).isAfterOrEqualTo(NOW.minusDays(90)));
+    }
+
+    @Test
+    public void shouldNotServePurgedFlightsFromCache() {
+        final Flight flight = flightRepository.save(createFlight("London", NOW));
+        assertThat(flightRepository.findById(flight.getId())).isPresent();
+        assertThat(flightRepository.findByOrigin("London")).hasSize(1);
+
+        flightRepository.purgeByOrigin(Collections.singleton("London"), null, 100);
+
+        assertThat(flightRepository.findById(flight.getId())).isEmpty();
+        assertThat(flightRepository.findByOrigin("London")).isEmpty();
+    }
+
+    private Flight createFlight(String origin, LocalDateTime scheduledAt) {
+        final Flight flight = new Flight();
+        flight.setOrigin(origin);
+        flight.setDestination("Oslo");
+        flight.setScheduledAt(scheduledAt);
+        return flight;
+    }
+}
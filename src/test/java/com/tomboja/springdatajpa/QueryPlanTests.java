@@ -0,0 +1,57 @@
+package com.tomboja.springdatajpa;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@SpringBootTest
+public class QueryPlanTests {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void shouldUseOriginIndexForFindByOriginAndDelete() {
+        assertThat(explain("select * from flight where origin = 'London'"))
+                .contains("IDX_FLIGHT_ORIGIN_SCHEDULED_AT");
+        assertThat(explain("delete from flight where origin = 'London'"))
+                .contains("IDX_FLIGHT_ORIGIN_SCHEDULED_AT");
+    }
+
+    @Test
+    public void shouldUseOriginAndDestinationIndex() {
+        assertThat(explain("select * from flight where origin = 'London' and destination = 'Paris'"))
+                .contains("IDX_FLIGHT_ORIGIN_DESTINATION");
+    }
+
+    @Test
+    public void shouldUseUpperCaseOriginIndexForIgnoreCaseLookup() {
+        assertThat(explain("select * from flight where origin_upper = upper('london')"))
+                .contains("IDX_FLIGHT_ORIGIN_UPPER");
+    }
+
+    @Test
+    public void shouldSeekUpperCaseOriginIndexForPrefixSearch() {
+        assertThat(explain("select origin_upper from flight where origin_upper >= 'LO' and origin_upper < 'LO\uffff' "
+                + "and origin_upper > 'LISBON' order by origin_upper limit 1"))
+                .contains("IDX_FLIGHT_ORIGIN_UPPER");
+    }
+
+    @Test
+    public void shouldUseIndexWhenPagingFlightsFromOrigin() {
+        assertThat(explain("select * from flight where origin = 'London' order by scheduled_at, id limit 5"))
+                .contains("IDX_FLIGHT_ORIGIN_SCHEDULED_AT");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
+}
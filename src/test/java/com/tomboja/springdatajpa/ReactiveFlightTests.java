@@ -0,0 +1,125 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.reactive.ReactiveFlightRepository;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Not transactional: R2DBC connections only see committed flights.
+ */
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+public class ReactiveFlightTests {
+    private static final LocalDateTime NOW = LocalDateTime.parse("2022-07-01T10:00:00");
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private ReactiveFlightRepository reactiveFlightRepository;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldFindWhatTheBlockingRepositoryFinds() {
+        saveFlights();
+
+        assertThat(reactiveFlightRepository.findByOrigin("London").collectList().block())
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("originUpper")
+                .containsExactlyInAnyOrderElementsOf(flightRepository.findByOrigin("London"));
+        assertThat(reactiveFlightRepository.findFlightByOriginAndDestination("London", "Paris")
+                .collectList().block())
+                .extracting(Flight::getId)
+                .containsExactlyInAnyOrderElementsOf(ids(flightRepository
+                        .findFlightByOriginAndDestination("London", "Paris")));
+        assertThat(reactiveFlightRepository.findByOriginIn(Arrays.asList("London", "Madrid", "London"))
+                .collectList().block())
+                .extracting(Flight::getId)
+                .containsExactlyInAnyOrderElementsOf(ids(flightRepository
+                        .findByOriginIn(Arrays.asList("London", "Madrid"))));
+        assertThat(reactiveFlightRepository.findByOriginIn(List.of()).collectList().block()).isEmpty();
+    }
+
+    @Test
+    public void shouldStreamFlightsAsNdjson() {
+        saveFlights();
+
+        final List<Flight> streamed = webTestClient.get().uri("/flights?origin=London&destination=Paris")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Flight.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(streamed).hasSize(2)
+                .allSatisfy(flight -> {
+                    assertThat(flight.getOrigin()).isEqualTo("London");
+                    assertThat(flight.getDestination()).isEqualTo("Paris");
+                    assertThat(flight.getVersion()).isZero();
+                });
+        webTestClient.get().uri("/flights?origin=London&origin=Madrid")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(Flight.class).hasSize(4);
+        webTestClient.get().uri("/flights?origin=London&origin=Madrid&destination=Paris")
+                .exchange()
+                .expectStatus().isBadRequest();
+        // Deletes are not exposed over HTTP
+        webTestClient.delete().uri("/flights?origin=London")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+    }
+
+    @Test
+    public void shouldEvictCachedLookupsOnReactiveDelete() {
+        saveFlights();
+        // Leaves the London lookup in the query cache
+        assertThat(flightRepository.findByOrigin("London")).hasSize(3);
+
+        assertThat(reactiveFlightRepository.deleteByOrigin("London").block()).isEqualTo(3);
+
+        assertThat(flightRepository.findByOrigin("London")).isEmpty();
+        assertThat(flightRepository.findByOrigin("Madrid")).hasSize(1);
+    }
+
+    private void saveFlights() {
+        flightRepository.saveAll(Arrays.asList(
+                new Flight(null, "London", "Paris", NOW),
+                new Flight(null, "London", "Paris", NOW.plusHours(2)),
+                new Flight(null, "London", "Rome", NOW.plusHours(1)),
+                new Flight(null, "Madrid", "Paris", NOW)));
+    }
+
+    private static List<Long> ids(List<Flight> flights) {
+        return flights.stream().map(Flight::getId).collect(Collectors.toList());
+    }
+}
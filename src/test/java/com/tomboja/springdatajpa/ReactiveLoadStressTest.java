@@ -0,0 +1,128 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.benchmark.FlightDataSeeder;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.tomboja.springdatajpa.benchmark.FlightDataSeeder.AIRPORTS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Looks up every origin's flights with the same number of requests in
+ * flight twice: streamed from GET /flights over HTTP, and through the
+ * blocking findByOriginIn, which takes a caller thread per lookup. Both
+ * must find the same flights; the reactive path must get by on a few
+ * threads where the blocking one needs one per concurrent lookup. Streamed
+ * flights are counted by line, the table lives in a file database, so the
+ * heap holds what is in flight only.
+ * Run with: mvn test -Pstress (-Dstress.concurrency=200 -Dstress.requests=2000)
+ */
+
+@Tag("stress")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/stress/reactive;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+public class ReactiveLoadStressTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void shouldServeConcurrentLookupsOnFewThreads() throws Exception {
+        final int concurrency = Integer.getInteger("stress.concurrency", 100);
+        final int requests = Integer.getInteger("stress.requests", 1000);
+        new FlightDataSeeder(jdbcTemplate).seed(Integer.getInteger("stress.rows", 20_000));
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        final WebClient client = WebClient.create("http://localhost:" + port);
+        // Starts the client's event loops before threads are counted
+        client.get().uri("/flights?origin={origin}", AIRPORTS[0]).retrieve().bodyToFlux(Flight.class)
+                .then().block();
+
+        int baseline = threads.getThreadCount();
+        threads.resetPeakThreadCount();
+        long started = System.nanoTime();
+        final Long streamed = Flux.range(0, requests)
+                .flatMap(i -> client.get().uri("/flights?origin={origin}", AIRPORTS[i % AIRPORTS.length])
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class)
+                        .map(ReactiveLoadStressTest::countLines)
+                        .reduce(0L, Long::sum), concurrency)
+                .reduce(0L, Long::sum)
+                .block();
+        final int reactiveThreads = threads.getPeakThreadCount() - baseline;
+        report("reactive", requests, concurrency, reactiveThreads, started);
+
+        baseline = threads.getThreadCount();
+        threads.resetPeakThreadCount();
+        started = System.nanoTime();
+        final ExecutorService callers = Executors.newFixedThreadPool(concurrency);
+        final List<Future<Integer>> lookups = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            final String origin = AIRPORTS[i % AIRPORTS.length];
+            lookups.add(callers.submit(() -> flightRepository
+                    .findByOriginIn(Collections.singletonList(origin)).size()));
+        }
+        long found = 0;
+        for (Future<Integer> lookup : lookups) {
+            found += lookup.get();
+        }
+        final int blockingThreads = threads.getPeakThreadCount() - baseline;
+        callers.shutdown();
+        report("blocking", requests, concurrency, blockingThreads, started);
+
+        assertThat(streamed).isEqualTo(found);
+        assertThat(reactiveThreads).isLessThan(concurrency / 4);
+        assertThat(blockingThreads).isGreaterThanOrEqualTo(concurrency);
+    }
+
+    // One flight per NDJSON line, counted without decoding the flights
+    private static long countLines(DataBuffer buffer) {
+        try {
+            long lines = 0;
+            for (int i = buffer.readPosition(); i < buffer.writePosition(); i++) {
+                if (buffer.getByte(i) == '\n') {
+                    lines++;
+                }
+            }
+            return lines;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static void report(String path, int requests, int concurrency, int threads, long started) {
+        final double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("%n%s: %,d lookups, %d at a time, %d threads added, %.1f s, %,.0f lookups/s%n",
+                path, requests, concurrency, threads, seconds, requests / seconds);
+    }
+}
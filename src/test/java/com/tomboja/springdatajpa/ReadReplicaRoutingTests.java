@@ -0,0 +1,144 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.routing.ReplicaLagMonitor;
+import com.tomboja.springdatajpa.routing.ReplicaPools;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * The replica is a separate in-memory H2 database that nothing replicates
+ * into. Each test writes the replica rows and heartbeat by hand, so where
+ * a flight is read from shows which database served the query.
+ */
+
+@SpringBootTest(properties = {
+        "flights.routing.enabled=true",
+        "flights.routing.max-lag=5s",
+        "flights.routing.heartbeat-interval=1h",
+        "flights.routing.replicas[0].url=jdbc:h2:mem:replica-0;DB_CLOSE_DELAY=-1;"
+                + "INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql'"
+})
+public class ReadReplicaRoutingTests {
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private ReplicaPools replicaPools;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private JdbcTemplate replica;
+    private Flight primaryFlight;
+
+    @BeforeEach
+    public void setUp() {
+        replica = new JdbcTemplate(replicaPools.getReplicas().get("replica-0"));
+        primaryFlight = flightRepository.save(createFlight("Primary"));
+        replica.update("insert into flight (id, origin, origin_upper, destination, scheduled_at) "
+                        + "values (?, ?, ?, ?, ?)",
+                1_000_000L, "London", "LONDON", "Replica", Timestamp.valueOf(LocalDateTime.parse("2022-07-01T10:00:00")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAll();
+        replica.update("delete from flight");
+    }
+
+    @Test
+    public void shouldReadFromReplicaWhileItKeepsUp() {
+        replicate(Instant.now());
+
+        assertThat(replicaLagMonitor.getHealthyReplicas()).containsExactly("replica-0");
+        assertThat(destinations(flightRepository.findByOriginIn(Collections.singleton("London"))))
+                .containsExactly("Replica");
+        assertThat(destinations(flightRepository.findAll())).containsExactly("Replica");
+    }
+
+    @Test
+    public void shouldFallBackToPrimaryWhenReplicaLags() {
+        replicate(Instant.now().minusSeconds(60));
+
+        assertThat(replicaLagMonitor.getHealthyReplicas()).isEmpty();
+        assertThat(destinations(flightRepository.findByOriginIn(Collections.singleton("London"))))
+                .containsExactly("Primary");
+    }
+
+    @Test
+    public void shouldWriteToPrimary() {
+        replicate(Instant.now());
+
+        flightRepository.save(createFlight("Second"));
+
+        final JdbcTemplate primary = new JdbcTemplate(replicaPools.getPrimary());
+        assertThat(primary.queryForList("select destination from flight order by id", String.class))
+                .containsExactly("Primary", "Second");
+        assertThat(replica.queryForObject("select count(*) from flight", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldKeepReplicaReadsOutOfTheQueryCache() {
+        replicate(Instant.now());
+        assertThat(destinations(flightRepository.findByOrigin("London"))).containsExactly("Replica");
+
+        replicate(Instant.now().minusSeconds(60));
+
+        assertThat(destinations(flightRepository.findByOrigin("London"))).containsExactly("Primary");
+    }
+
+    @Test
+    public void shouldKeepReplicaReadsOutOfTheEntityCache() {
+        // The replica has yet to receive the flight's latest write
+        replica.update("insert into flight (id, origin, origin_upper, destination, scheduled_at) "
+                        + "values (?, ?, ?, ?, ?)",
+                primaryFlight.getId(), "London", "LONDON", "Stale", Timestamp.valueOf(LocalDateTime.parse("2022-07-01T10:00:00")));
+        entityManagerFactory.getCache().evictAll();
+        replicate(Instant.now());
+        assertThat(flightRepository.findById(primaryFlight.getId()).map(Flight::getDestination)).contains("Stale");
+
+        replicate(Instant.now().minusSeconds(60));
+
+        assertThat(flightRepository.findById(primaryFlight.getId()).map(Flight::getDestination)).contains("Primary");
+    }
+
+    // Stands in for the replication stream catching up to the given point in time
+    private void replicate(Instant heartbeat) {
+        replica.update("merge into replication_heartbeat key (id) values (1, ?)", Timestamp.from(heartbeat));
+        replicaLagMonitor.refresh();
+    }
+
+    private static List<String> destinations(List<Flight> flights) {
+        return flights.stream().map(Flight::getDestination).collect(Collectors.toList());
+    }
+
+    private Flight createFlight(String destination) {
+        final Flight flight = new Flight();
+        flight.setOrigin("London");
+        flight.setDestination(destination);
+        flight.setScheduledAt(LocalDateTime.parse("2022-07-01T10:00:00"));
+        return flight;
+    }
+}
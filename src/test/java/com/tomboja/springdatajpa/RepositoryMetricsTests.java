@@ -0,0 +1,79 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.sql.SqlTrackingConfiguration;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@SpringBootTest
+@Transactional
+public class RepositoryMetricsTests {
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void shouldTimeDerivedAndCustomRepositoryMethods() {
+        final long findsBefore = invocations("findByOrigin");
+        final long deletesBefore = invocations("deleteByOrigin");
+
+        final Flight flight = new Flight();
+        flight.setOrigin("London");
+        flight.setDestination("Paris");
+        flight.setScheduledAt(LocalDateTime.parse("2022-07-01T10:00:00"));
+        flightRepository.save(flight);
+        flightRepository.findByOrigin("London");
+        flightRepository.deleteByOrigin("London");
+
+        assertThat(invocations("findByOrigin")).isEqualTo(findsBefore + 1);
+        assertThat(invocations("deleteByOrigin")).isEqualTo(deletesBefore + 1);
+    }
+
+    @Test
+    public void shouldExportHibernateAndConnectionPoolMetrics() {
+        assertThat(meterRegistry.find("hibernate.statements").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.entities.loads").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.flushes").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").timer()).isNotNull();
+        assertThat(meterRegistry.find("flights.cache.hit.ratio").tag("region", "queries").gauge()).isNotNull();
+    }
+
+    @Test
+    public void shouldCountStatementsPerRepositoryMethod() {
+        flightRepository.deleteByOrigin("Nowhere");
+
+        final DistributionSummary statements = meterRegistry.find(SqlTrackingConfiguration.STATEMENTS_METRIC)
+                .tag("repository", "FlightRepository")
+                .tag("method", "deleteByOrigin")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.max()).isEqualTo(1);
+    }
+
+    private long invocations(String method) {
+        return meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "FlightRepository")
+                .tag("method", method)
+                .timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+}
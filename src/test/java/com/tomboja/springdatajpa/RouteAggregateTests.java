@@ -0,0 +1,140 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.changes.FlightChangeFeed;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.repository.RouteCount;
+import com.tomboja.springdatajpa.repository.RouteDeparture;
+import com.tomboja.springdatajpa.route.RouteSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Not transactional: the summary follows committed changes, folded in by
+ * explicit dispatch() calls.
+ */
+
+@SpringBootTest(properties = {"flights.changes.enabled=true", "flights.route-summary.enabled=true",
+        "flights.changes.poll-interval=1h"})
+public class RouteAggregateTests {
+    private static final LocalDateTime NOW = LocalDateTime.parse("2022-07-01T10:00:00");
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private RouteSummary routeSummary;
+
+    @Autowired
+    private FlightChangeFeed flightChangeFeed;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAll();
+        flightChangeFeed.dispatch();
+    }
+
+    @Test
+    public void shouldCountFlightsPerRoute() {
+        saveFlights();
+
+        assertThat(flightRepository.countFlightsByRoute())
+                .extracting(RouteCount::getOrigin, RouteCount::getDestination, RouteCount::getFlights)
+                .containsExactly(
+                        tuple("London", "Paris", 2L),
+                        tuple("London", "Rome", 1L),
+                        tuple("Madrid", "Paris", 1L));
+        flightChangeFeed.dispatch();
+        assertThat(routeSummary.findRouteCounts())
+                .extracting(RouteCount::getOrigin, RouteCount::getDestination, RouteCount::getFlights)
+                .containsExactly(
+                        tuple("London", "Paris", 2L),
+                        tuple("London", "Rome", 1L),
+                        tuple("Madrid", "Paris", 1L));
+    }
+
+    @Test
+    public void shouldFindNextDeparturePerRoute() {
+        final List<Flight> flights = saveFlights();
+
+        final List<RouteDeparture> departures = flightRepository.findNextDeparturesAfter(NOW.plusMinutes(30));
+
+        assertThat(departures)
+                .extracting(RouteDeparture::getOrigin, RouteDeparture::getDestination, RouteDeparture::getFlightId,
+                        RouteDeparture::getScheduledAt)
+                .containsExactly(
+                        tuple("London", "Paris", flights.get(1).getId(), NOW.plusHours(2)),
+                        tuple("London", "Rome", flights.get(2).getId(), NOW.plusHours(1)));
+        flightChangeFeed.dispatch();
+        assertThat(routeSummary.findNextDeparturesAfter(NOW.plusMinutes(30)))
+                .extracting(RouteDeparture::getOrigin, RouteDeparture::getDestination, RouteDeparture::getFlightId,
+                        RouteDeparture::getScheduledAt)
+                .containsExactly(
+                        tuple("London", "Paris", flights.get(1).getId(), NOW.plusHours(2)),
+                        tuple("London", "Rome", flights.get(2).getId(), NOW.plusHours(1)));
+    }
+
+    @Test
+    public void shouldFollowSavesReroutesAndBulkDeletes() {
+        final List<Flight> flights = saveFlights();
+        flightChangeFeed.dispatch();
+
+        final Flight rerouted = flights.get(0);
+        rerouted.setDestination("Rome");
+        flightRepository.save(rerouted);
+        flightRepository.save(new Flight(null, "Oslo", "Paris", NOW));
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> flightRepository.deleteByOrigin("Madrid"));
+        flightChangeFeed.dispatch();
+
+        assertThat(routeSummary.findRouteCounts())
+                .extracting(RouteCount::getOrigin, RouteCount::getDestination, RouteCount::getFlights)
+                .containsExactly(
+                        tuple("London", "Paris", 1L),
+                        tuple("London", "Rome", 2L),
+                        tuple("Oslo", "Paris", 1L));
+        assertThat(routeSummary.position()).isGreaterThan(0);
+    }
+
+    @Test
+    public void shouldSkipChangesTheReconcileCounted() {
+        saveFlights();
+
+        // Counts the flights before the feed delivers their inserts
+        routeSummary.reconcile();
+        flightChangeFeed.dispatch();
+
+        assertThat(routeSummary.findRouteCounts())
+                .extracting(RouteCount::getOrigin, RouteCount::getDestination, RouteCount::getFlights)
+                .containsExactly(
+                        tuple("London", "Paris", 2L),
+                        tuple("London", "Rome", 1L),
+                        tuple("Madrid", "Paris", 1L));
+    }
+
+    private List<Flight> saveFlights() {
+        return flightRepository.saveAll(Arrays.asList(
+                new Flight(null, "London", "Paris", NOW),
+                new Flight(null, "London", "Paris", NOW.plusHours(2)),
+                new Flight(null, "London", "Rome", NOW.plusHours(1)),
+                new Flight(null, "Madrid", "Paris", NOW),
+                new Flight(null, "Madrid", null, NOW.plusHours(3))));
+    }
+}
@@ -0,0 +1,89 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.cache.CacheRegionStats;
+import com.tomboja.springdatajpa.cache.FlightCacheStatistics;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Not transactional: cache entries are only published once a transaction commits.
+ */
+
+@SpringBootTest
+public class SecondLevelCacheTests {
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private FlightCacheStatistics cacheStatistics;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldServeRepeatedLookupByIdFromCache() {
+        final Flight flight = flightRepository.save(createFlight("London", "Paris"));
+        final CacheRegionStats before = cacheStatistics.entities();
+
+        assertThat(flightRepository.findById(flight.getId())).isPresent();
+        assertThat(flightRepository.findById(flight.getId())).isPresent();
+
+        assertThat(cacheStatistics.entities().getHits() - before.getHits()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldServeRepeatedHubLookupsFromQueryCache() {
+        flightRepository.save(createFlight("London", "Paris"));
+        flightRepository.save(createFlight("London", "Rome"));
+
+        assertThat(flightRepository.findByOrigin("London")).hasSize(2);
+        final CacheRegionStats before = cacheStatistics.queries();
+        assertThat(flightRepository.findByOrigin("London")).hasSize(2);
+        assertThat(flightRepository.findFlightByOriginAndDestination("London", "Rome")).hasSize(1);
+        assertThat(flightRepository.findFlightByOriginAndDestination("London", "Rome")).hasSize(1);
+
+        final CacheRegionStats after = cacheStatistics.queries();
+        assertThat(after.getHits() - before.getHits()).isEqualTo(2);
+        assertThat(after.getMisses() - before.getMisses()).isEqualTo(1);
+        assertThat(after.getHitRatio()).isGreaterThan(0);
+    }
+
+    @Test
+    public void shouldInvalidateCachedQueriesOnDeleteByOrigin() {
+        final Flight flight = flightRepository.save(createFlight("London", "Paris"));
+        assertThat(flightRepository.findByOrigin("London")).hasSize(1);
+        assertThat(flightRepository.findById(flight.getId())).isPresent();
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> flightRepository.deleteByOrigin("London"));
+
+        assertThat(flightRepository.findByOrigin("London")).isEmpty();
+        assertThat(flightRepository.findById(flight.getId())).isEmpty();
+    }
+
+    private Flight createFlight(String origin, String destination) {
+        final Flight flight = new Flight();
+        flight.setOrigin(origin);
+        flight.setDestination(destination);
+        flight.setScheduledAt(LocalDateTime.parse("2022-03-01T07:45:00"));
+        return flight;
+    }
+}
@@ -0,0 +1,42 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.sql.SqlStatementCapture;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Statement budgets for repository calls. Flush pending changes before the
+ * call under test, otherwise the auto flush counts towards its budget.
+ */
+
+public final class SqlAssertions {
+
+    private SqlAssertions() {
+    }
+
+    public static <T> T assertStatementCount(int max, Supplier<T> call) {
+        try (SqlStatementCapture capture = SqlStatementCapture.open()) {
+            final T result = call.get();
+            assertThat(capture.getCount())
+                    .as("statements issued, expected at most %d but got %s", max, capture.getStatements())
+                    .isLessThanOrEqualTo(max);
+            return result;
+        }
+    }
+
+    public static <T> T assertExactStatementCount(int expected, Supplier<T> call) {
+        try (SqlStatementCapture capture = SqlStatementCapture.open()) {
+            final T result = call.get();
+            assertThat(capture.getCount())
+                    .as("statements issued, expected %d but got %s", expected, capture.getStatements())
+                    .isEqualTo(expected);
+            return result;
+        }
+    }
+}
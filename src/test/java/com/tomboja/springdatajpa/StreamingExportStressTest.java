@@ -0,0 +1,56 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.benchmark.FlightDataSeeder;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Streams millions of flights under a small heap. The table lives in a file
+ * database so that the data itself does not count against -Xmx.
+ * Run with: mvn test -Pstress (-Dstress.rows=5000000)
+ */
+
+@Tag("stress")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/stress/flights;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+public class StreamingExportStressTest {
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void shouldStreamMillionsOfFlightsInConstantMemory() {
+        final int rows = Integer.getInteger("stress.rows", 2_000_000);
+        new FlightDataSeeder(jdbcTemplate).seed(rows);
+
+        final TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        final Long streamed = readOnly.execute(status -> {
+            try (Stream<Flight> flights = flightRepository.streamAll()) {
+                return flights.count();
+            }
+        });
+
+        assertThat(streamed).isEqualTo(rows);
+    }
+}
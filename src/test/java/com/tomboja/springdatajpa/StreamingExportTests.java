@@ -0,0 +1,74 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@SpringBootTest
+@Transactional
+public class StreamingExportTests {
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    public void setUp() {
+        flightRepository.deleteAll();
+        final List<Flight> flights = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            flights.add(createFlight(i % 3 == 0 ? "London" : "Paris", "Flight - " + i));
+        }
+        flightRepository.saveInBatches(flights);
+    }
+
+    @Test
+    public void shouldStreamFlightsFromLondonWithoutGrowingThePersistenceContext() {
+        final AtomicInteger streamed = new AtomicInteger();
+        try (Stream<Flight> flights = flightRepository.streamByOrigin("London")) {
+            flights.forEach(flight -> {
+                assertThat(flight.getOrigin()).isEqualTo("London");
+                assertThat(entityManager.contains(flight)).isFalse();
+                streamed.incrementAndGet();
+            });
+        }
+
+        assertThat(streamed.get()).isEqualTo(1000);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    public void shouldStreamAllFlights() {
+        try (Stream<Flight> flights = flightRepository.streamAll()) {
+            assertThat(flights.count()).isEqualTo(3000);
+        }
+    }
+
+    private Flight createFlight(String origin, String destination) {
+        final Flight flight = new Flight();
+        flight.setOrigin(origin);
+        flight.setDestination(destination);
+        flight.setScheduledAt(LocalDateTime.parse("2022-02-01T08:30:00"));
+        return flight;
+    }
+}
@@ -0,0 +1,109 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.ArchivedFlightRepository;
+import com.tomboja.springdatajpa.repository.FlightCursor;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.repository.FlightWindow;
+import com.tomboja.springdatajpa.repository.PurgeResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@SpringBootTest
+@Transactional
+public class TimeRangeQueryTests {
+    private static final LocalDateTime NOW = LocalDateTime.parse("2022-07-01T12:00:00");
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private ArchivedFlightRepository archivedFlightRepository;
+
+    @BeforeEach
+    public void setUp() {
+        flightRepository.deleteAll();
+        archivedFlightRepository.deleteAllInBatch();
+        // One London departure every hour from 12 hours ago to 12 hours ahead
+        for (int i = -12; i <= 12; i++) {
+            flightRepository.save(createFlight("London", "Flight " + i, NOW.plusHours(i)));
+            flightRepository.save(createFlight("Paris", "Flight " + i, NOW.plusHours(i)));
+        }
+    }
+
+    @Test
+    public void shouldSeekDeparturesInTheNextSixHours() {
+        final List<String> destinations = new ArrayList<>();
+        FlightCursor cursor = FlightCursor.first(FlightCursor.Order.SCHEDULED_AT);
+        FlightWindow window;
+        do {
+            window = flightRepository.seekByOriginScheduledBetween("London", NOW, NOW.plusHours(6), cursor, 4);
+            window.getContent().forEach(flight -> destinations.add(flight.getDestination()));
+            cursor = window.getNextCursor();
+        } while (window.hasNext());
+
+        // The upper bound is exclusive
+        assertThat(destinations).containsExactly("Flight 0", "Flight 1", "Flight 2", "Flight 3", "Flight 4",
+                "Flight 5");
+    }
+
+    @Test
+    public void shouldRejectEmptyRangeAndOtherOrders() {
+        assertThatThrownBy(() -> flightRepository.seekByOriginScheduledBetween("London", NOW, NOW,
+                FlightCursor.first(FlightCursor.Order.SCHEDULED_AT), 4))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> flightRepository.seekByOriginScheduledBetween("London", NOW, NOW.plusHours(1),
+                FlightCursor.first(FlightCursor.Order.DESTINATION), 4))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldMoveOldFlightsToTheArchive() {
+        final PurgeResult result = flightRepository.archiveScheduledBefore(NOW.minusHours(6), 5);
+
+        // Flights -12 to -7 hours, from both origins
+        assertThat(result.getDeleted()).isEqualTo(12);
+        assertThat(result.getChunks()).isEqualTo(3);
+        assertThat(flightRepository.count()).isEqualTo(38);
+        assertThat(archivedFlightRepository.count()).isEqualTo(12);
+
+        final Slice<ArchivedFlight> history = archivedFlightRepository.findByOriginScheduledBetween(
+                "London", NOW.minusDays(1), NOW, PageRequest.of(0, 4));
+        assertThat(history.getContent()).extracting(ArchivedFlight::getDestination)
+                .containsExactly("Flight -12", "Flight -11", "Flight -10", "Flight -9");
+        assertThat(history.hasNext()).isTrue();
+
+        final FlightWindow recent = flightRepository.seekByOriginScheduledBetween("London", NOW.minusDays(1), NOW,
+                FlightCursor.first(FlightCursor.Order.SCHEDULED_AT), 10);
+        assertThat(recent.getContent()).extracting(Flight::getDestination)
+                .containsExactly("Flight -6", "Flight -5", "Flight -4", "Flight -3", "Flight -2", "Flight -1");
+    }
+
+    private Flight createFlight(String origin, String destination, LocalDateTime time) {
+        final Flight flight = new Flight();
+        flight.setOrigin(origin);
+        flight.setDestination(destination);
+        flight.setScheduledAt(time);
+        return flight;
+    }
+}
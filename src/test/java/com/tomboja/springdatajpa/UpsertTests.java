@@ -0,0 +1,105 @@
+package com.tomboja.springdatajpa;
+
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import com.tomboja.springdatajpa.repository.UpsertResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ */
+
+@SpringBootTest
+@Transactional
+public class UpsertTests {
+    private static final LocalDateTime NOW = LocalDateTime.parse("2022-07-01T10:00:00");
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @BeforeEach
+    public void setUp() {
+        flightRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldOnlyInsertFlightsNotStoredYet() {
+        final List<Flight> schedule = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            schedule.add(createFlight("London", "Oslo", NOW.plusHours(i)));
+        }
+        assertResult(flightRepository.upsertAll(schedule), 120, 0, 0);
+
+        schedule.add(createFlight("London", "Oslo", NOW.minusHours(1)));
+        assertResult(flightRepository.upsertAll(schedule), 1, 0, 120);
+        assertThat(flightRepository.count()).isEqualTo(121);
+    }
+
+    @Test
+    public void shouldUpdateFlightsSpelledDifferently() {
+        final Flight stored = flightRepository.save(createFlight("LONDON", "Oslo", NOW));
+        flightRepository.save(createFlight("Paris", "Oslo", NOW));
+
+        final UpsertResult result = flightRepository.upsertAll(Arrays.asList(
+                createFlight("London", "Oslo", NOW),
+                createFlight("Paris", "Oslo", NOW),
+                createFlight("London", "Rome", NOW)));
+
+        assertResult(result, 1, 1, 1);
+        assertThat(flightRepository.findById(stored.getId()))
+                .hasValueSatisfying(flight -> assertThat(flight.getOrigin()).isEqualTo("London"));
+        assertThat(flightRepository.findByOriginIgnoreCase("london")).hasSize(2);
+    }
+
+    @Test
+    public void shouldMatchFlightsWithoutScheduleTime() {
+        flightRepository.save(createFlight("London", "Oslo", null));
+
+        assertResult(flightRepository.upsertAll(Arrays.asList(
+                createFlight("London", "Oslo", null),
+                createFlight("Madrid", "Oslo", null),
+                createFlight("Madrid", "Oslo", null))), 1, 0, 2);
+        // The second Madrid flight matches the first, only one is inserted
+        assertThat(flightRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldKeepTheLastFlightWithANaturalKey() {
+        flightRepository.save(createFlight("Paris", "Oslo", NOW));
+
+        assertResult(flightRepository.upsertAll(Arrays.asList(
+                createFlight("London", "Oslo", NOW),
+                createFlight("LONDON", "Oslo", NOW),
+                createFlight("PARIS", "Oslo", NOW),
+                createFlight("Paris", "Oslo", NOW))), 1, 0, 3);
+
+        assertThat(flightRepository.findAll()).extracting(Flight::getOrigin)
+                .containsExactlyInAnyOrder("LONDON", "Paris");
+    }
+
+    private static void assertResult(UpsertResult result, long inserted, long updated, long unchanged) {
+        assertThat(result.getInserted()).isEqualTo(inserted);
+        assertThat(result.getUpdated()).isEqualTo(updated);
+        assertThat(result.getUnchanged()).isEqualTo(unchanged);
+    }
+
+    private Flight createFlight(String origin, String destination, LocalDateTime scheduledAt) {
+        final Flight flight = new Flight();
+        flight.setOrigin(origin);
+        flight.setDestination(destination);
+        flight.setScheduledAt(scheduledAt);
+        return flight;
+    }
+}
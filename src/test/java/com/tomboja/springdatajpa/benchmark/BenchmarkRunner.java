@@ -0,0 +1,158 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Runs the JMH benchmarks with the GC profiler (allocations per operation)
+ * and compares the primary scores against benchmarks/baseline.csv.
+ *
+ * Accepts the regular JMH command line. System properties:
+ * benchmark.baseline (baseline CSV), benchmark.result (CSV written by this run),
+ * benchmark.tolerance (allowed relative slowdown, default 0.10) and
+ * benchmark.failOnRegression (exit with 1 when a regression is found).
+ */
+
+public class BenchmarkRunner {
+
+    private static final String GC_ALLOC_NORM = "·gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws Exception {
+        final Path baseline = Paths.get(System.getProperty("benchmark.baseline", "benchmarks/baseline.csv"));
+        final Path result = Paths.get(System.getProperty("benchmark.result", "target/jmh/result.csv"));
+        final double tolerance = Double.parseDouble(System.getProperty("benchmark.tolerance", "0.10"));
+        final boolean failOnRegression = Boolean.getBoolean("benchmark.failOnRegression");
+
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        final Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.CSV)
+                .result(result.toString())
+                .build();
+
+        final Collection<RunResult> results = new Runner(options).run();
+        printAllocations(results);
+
+        if (!Files.exists(baseline)) {
+            System.out.printf("No baseline at %s, copy %s there to start tracking regressions%n", baseline, result);
+            return;
+        }
+        final List<String> regressions = compare(readBaseline(baseline), results, tolerance);
+        regressions.forEach(System.out::println);
+        if (failOnRegression && !regressions.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    private static void printAllocations(Collection<RunResult> results) {
+        System.out.println();
+        System.out.println("Allocations per operation (bytes/op):");
+        for (RunResult runResult : results) {
+            final Result<?> allocated = runResult.getSecondaryResults().get(GC_ALLOC_NORM);
+            if (allocated != null) {
+                System.out.printf("  %-70s %,15.0f%n", key(runResult), allocated.getScore());
+            }
+        }
+    }
+
+    /**
+     * Returns one line per benchmark whose score moved in the wrong direction
+     * by more than {@code tolerance} compared to the baseline.
+     */
+    static List<String> compare(Map<String, Double> baseline, Collection<RunResult> results, double tolerance) {
+        final List<String> regressions = new ArrayList<>();
+        for (RunResult runResult : results) {
+            final String key = key(runResult);
+            final Double expected = baseline.get(key);
+            if (expected == null || expected == 0) {
+                continue;
+            }
+            final double actual = runResult.getPrimaryResult().getScore();
+            final boolean higherIsBetter = runResult.getParams().getMode().shortLabel().equals("thrpt");
+            final double change = (actual - expected) / expected;
+            final double slowdown = higherIsBetter ? -change : change;
+            if (slowdown > tolerance) {
+                regressions.add(String.format("REGRESSION %s: baseline %.3f, now %.3f (%+.1f%%)",
+                        key, expected, actual, change * 100));
+            }
+        }
+        return regressions;
+    }
+
+    static Map<String, Double> readBaseline(Path baseline) throws IOException {
+        final List<String> lines = Files.readAllLines(baseline, StandardCharsets.UTF_8);
+        final Map<String, Double> scores = new LinkedHashMap<>();
+        if (lines.isEmpty()) {
+            return scores;
+        }
+        final List<String> header = splitCsv(lines.get(0));
+        for (String line : lines.subList(1, lines.size())) {
+            final List<String> columns = splitCsv(line);
+            if (columns.size() != header.size()) {
+                continue;
+            }
+            final Map<String, String> params = new TreeMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                if (header.get(i).startsWith("Param: ")) {
+                    params.put(header.get(i).substring("Param: ".length()), columns.get(i));
+                }
+            }
+            final String key = key(columns.get(header.indexOf("Benchmark")), columns.get(header.indexOf("Mode")), params);
+            scores.put(key, Double.parseDouble(columns.get(header.indexOf("Score"))));
+        }
+        return scores;
+    }
+
+    private static String key(RunResult runResult) {
+        final Map<String, String> params = new TreeMap<>();
+        for (String name : runResult.getParams().getParamsKeys()) {
+            params.put(name, runResult.getParams().getParam(name));
+        }
+        return key(runResult.getParams().getBenchmark(), runResult.getParams().getMode().shortLabel(), params);
+    }
+
+    private static String key(String benchmark, String mode, Map<String, String> params) {
+        return benchmark + " [" + mode + "] " + params;
+    }
+
+    private static List<String> splitCsv(String line) {
+        final List<String> columns = new ArrayList<>();
+        final StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (char c : line.toCharArray()) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+}
@@ -0,0 +1,65 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.Flight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Rows per second through saveAll (one persistence context holding every
+ * flight) and saveInBatches (flushed and cleared every JDBC batch).
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="BulkInsertBenchmark -p rows=0"
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BulkInsertBenchmark {
+
+    private static final int FLIGHTS = 20_000;
+
+    @State(Scope.Thread)
+    public static class Feed {
+        List<Flight> batch;
+
+        @Setup(Level.Invocation)
+        public void createFeed(FlightDatabaseState db) {
+            batch = new ArrayList<>(FLIGHTS);
+            for (int i = 0; i < FLIGHTS; i++) {
+                batch.add(new Flight(null, db.seeder.randomAirport(), db.seeder.randomAirport(),
+                        db.seeder.randomScheduledAt()));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLIGHTS)
+    public List<Flight> saveAll(FlightDatabaseState db, Feed feed) {
+        return db.flightRepository.saveAll(feed.batch);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLIGHTS)
+    public long saveInBatches(FlightDatabaseState db, Feed feed) {
+        return db.flightRepository.saveInBatches(feed.batch);
+    }
+}
@@ -0,0 +1,56 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.Flight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Case insensitive origin lookups: upper(origin) = upper(?) evaluated on
+ * every row against the normalized, indexed origin_upper column, plus the
+ * autocomplete prefix search.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="CaseInsensitiveSearchBenchmark -p rows=5000000"
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class CaseInsensitiveSearchBenchmark {
+
+    @Benchmark
+    public List<Map<String, Object>> upperScan(FlightDatabaseState db) {
+        return db.jdbcTemplate.queryForList("select * from flight where upper(origin) = upper(?)",
+                db.hub.toLowerCase(Locale.ROOT));
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> normalizedSeek(FlightDatabaseState db) {
+        return db.jdbcTemplate.queryForList("select * from flight where origin_upper = ?",
+                Flight.normalizeOrigin(db.hub.toLowerCase(Locale.ROOT)));
+    }
+
+    @Benchmark
+    public List<Flight> findByOriginIgnoreCase(FlightDatabaseState db) {
+        return db.flightRepository.findByOriginIgnoreCase(db.hub.toLowerCase(Locale.ROOT));
+    }
+
+    @Benchmark
+    public List<String> findOriginsStartingWith(FlightDatabaseState db) {
+        return db.flightRepository.findOriginsStartingWith("a", 10);
+    }
+}
@@ -0,0 +1,75 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.Flight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Latency distribution of a gateway request doing five lookups, one after
+ * the other on the request thread or fanned out to the async finders.
+ * Four request threads run concurrently, compare the p0.99 rows. The
+ * query cache is off so that every lookup reaches the database.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="FanOutBenchmark -p rows=1000000"
+ */
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Threads(4)
+public class FanOutBenchmark {
+
+    private static final int FAN_OUT = 5;
+
+    @State(Scope.Benchmark)
+    public static class UncachedDatabaseState extends FlightDatabaseState {
+        @Override
+        protected String[] properties() {
+            final String[] defaults = super.properties();
+            final String[] properties = Arrays.copyOf(defaults, defaults.length + 1);
+            properties[defaults.length] = "spring.jpa.properties.hibernate.cache.use_query_cache=false";
+            return properties;
+        }
+    }
+
+    @Benchmark
+    public List<List<Flight>> serial(UncachedDatabaseState db) {
+        final List<List<Flight>> results = new ArrayList<>(FAN_OUT);
+        for (int i = 0; i < FAN_OUT; i++) {
+            results.add(db.flightRepository.findFlightByOriginAndDestination(
+                    FlightDataSeeder.AIRPORTS[i], FlightDataSeeder.AIRPORTS[i + 1]));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<List<Flight>> fanOut(UncachedDatabaseState db) {
+        final List<CompletableFuture<List<Flight>>> futures = new ArrayList<>(FAN_OUT);
+        for (int i = 0; i < FAN_OUT; i++) {
+            futures.add(db.flightRepository.findAsyncFlightByOriginAndDestination(
+                    FlightDataSeeder.AIRPORTS[i], FlightDataSeeder.AIRPORTS[i + 1]));
+        }
+        final List<List<Flight>> results = new ArrayList<>(FAN_OUT);
+        futures.forEach(future -> results.add(future.join()));
+        return results;
+    }
+}
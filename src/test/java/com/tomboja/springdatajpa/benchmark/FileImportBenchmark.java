@@ -0,0 +1,93 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.ingest.FlightImportResult;
+import com.tomboja.springdatajpa.ingest.FlightImporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Flights per second loading a schedule file through the FlightImporter
+ * pipeline, by number of writer threads.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="FileImportBenchmark -p rows=0"
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class FileImportBenchmark {
+
+    private static final int FLIGHTS = 500_000;
+
+    @State(Scope.Benchmark)
+    public static class ImportState extends FlightDatabaseState {
+        @Param({"1", "4", "8"})
+        public int writers;
+
+        FlightImporter importer;
+        Path file;
+
+        @Override
+        protected void seed() {
+            super.seed();
+            importer = context.getBean(FlightImporter.class);
+            try {
+                file = Files.createTempFile("schedule", ".csv");
+                try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                    out.write("origin,destination,scheduled_at\n");
+                    for (int i = 0; i < FLIGHTS; i++) {
+                        out.write(seeder.randomAirport() + "," + seeder.randomAirport() + ","
+                                + seeder.randomScheduledAt() + "\n");
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void deleteFile() throws IOException {
+            Files.deleteIfExists(file);
+        }
+
+        @Override
+        protected String[] properties() {
+            final String[] defaults = super.properties();
+            final String[] properties = Arrays.copyOf(defaults, defaults.length + 2);
+            properties[defaults.length] = "flights.import.writers=" + writers;
+            properties[defaults.length + 1] = "flights.import.progress-interval=1h";
+            return properties;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLIGHTS)
+    public FlightImportResult importFile(ImportState state) throws Exception {
+        return state.importer.importFile(state.file);
+    }
+}
@@ -0,0 +1,125 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Loads synthetic flights straight through JDBC so that benchmark set up
+ * does not depend on the repository paths being measured.
+ */
+
+public class FlightDataSeeder {
+
+    public static final int AIRPORT_COUNT = 200;
+    public static final String[] AIRPORTS = airports();
+    public static final LocalDateTime EPOCH = LocalDateTime.parse("2022-01-01T00:00:00");
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final String INSERT =
+            "insert into flight (id, origin, origin_upper, destination, scheduled_at) "
+                    + "values (next value for flight_seq, ?, upper(?), ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+
+    public FlightDataSeeder(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, 42L);
+    }
+
+    public FlightDataSeeder(JdbcTemplate jdbcTemplate, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Inserts {@code rows} flights spread uniformly over {@link #AIRPORTS}
+     * and over one year starting at {@link #EPOCH}.
+     */
+    public void seed(int rows) {
+        final List<Object[]> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < rows; i++) {
+            chunk.add(randomRow());
+            if (chunk.size() == CHUNK_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, chunk);
+        }
+    }
+
+    /**
+     * Inserts {@code rows} flights spread uniformly over {@link #AIRPORTS}
+     * and over [from, until), e.g. history older than {@link #EPOCH}.
+     */
+    public void seedBetween(int rows, LocalDateTime from, LocalDateTime until) {
+        final long minutes = Duration.between(from, until).toMinutes();
+        final List<Object[]> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < rows; i++) {
+            final Object[] row = randomRow();
+            row[3] = Timestamp.valueOf(from.plusMinutes((long) (random.nextDouble() * minutes)));
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, chunk);
+        }
+    }
+
+    /**
+     * Inserts {@code rows} flights leaving from the given origin.
+     */
+    public void seedOrigin(String origin, int rows) {
+        final List<Object[]> batch = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            final Object[] row = randomRow();
+            row[0] = origin;
+            row[1] = origin;
+            batch.add(row);
+        }
+        jdbcTemplate.batchUpdate(INSERT, batch);
+    }
+
+    public LocalDateTime randomScheduledAt() {
+        return EPOCH.plusMinutes(random.nextInt(365 * 24 * 60));
+    }
+
+    public String randomAirport() {
+        return AIRPORTS[random.nextInt(AIRPORT_COUNT)];
+    }
+
+    private Object[] randomRow() {
+        final String origin = randomAirport();
+        return new Object[]{
+                origin,
+                origin,
+                randomAirport(),
+                Timestamp.valueOf(randomScheduledAt())
+        };
+    }
+
+    private static String[] airports() {
+        final String[] codes = new String[AIRPORT_COUNT];
+        for (int i = 0; i < AIRPORT_COUNT; i++) {
+            codes[i] = new String(new char[]{
+                    (char) ('A' + i / (26 * 26) % 26),
+                    (char) ('A' + i / 26 % 26),
+                    (char) ('A' + i % 26)});
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,81 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.SpringDataJpaApplication;
+import com.tomboja.springdatajpa.repository.FlightRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Boots the application against its own embedded H2 database and loads
+ * {@code rows} synthetic flights once per trial.
+ */
+
+@State(Scope.Benchmark)
+public class FlightDatabaseState {
+
+    @Param({"1000000"})
+    public int rows;
+
+    public ConfigurableApplicationContext context;
+    public FlightRepository flightRepository;
+    public JdbcTemplate jdbcTemplate;
+    public TransactionTemplate transactionTemplate;
+    public FlightDataSeeder seeder;
+
+    /** Origin every read benchmark queries, holding ~rows/200 flights. */
+    public final String hub = FlightDataSeeder.AIRPORTS[0];
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        // Passed as command line arguments, default properties would lose
+        // against application.properties
+        context = new SpringApplicationBuilder(SpringDataJpaApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(Arrays.stream(properties()).map(property -> "--" + property).toArray(String[]::new));
+        flightRepository = context.getBean(FlightRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        seeder = new FlightDataSeeder(jdbcTemplate);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    /**
+     * Loads the trial's data; override to add data for a specific benchmark.
+     */
+    protected void seed() {
+        seeder.seed(rows);
+    }
+
+    /**
+     * Properties the application is started with; override to switch
+     * features on for a specific benchmark.
+     */
+    protected String[] properties() {
+        return new String[]{
+                "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN"
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.index.FlightIndex;
+import com.tomboja.springdatajpa.index.FlightIndexLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Hub lookups answered by the database (query cache off) or by the
+ * in-memory flight index. The index size is printed once loaded.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="FlightIndexBenchmark -p rows=1000000"
+ */
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FlightIndexBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class IndexState extends FlightDatabaseState {
+        @Param({"false", "true"})
+        public boolean indexed;
+
+        @Override
+        protected void seed() {
+            super.seed();
+            if (indexed) {
+                // Seeded through JDBC, the index has to be rebuilt
+                context.getBean(FlightIndexLoader.class).load();
+                final FlightIndex index = context.getBean(FlightIndex.class);
+                System.out.printf("%nFlight index: %,d flights, %,d bytes, %.1f bytes per flight%n",
+                        index.size(), index.footprintBytes(), index.bytesPerFlight());
+            }
+        }
+
+        @Override
+        protected String[] properties() {
+            final String[] defaults = super.properties();
+            final String[] properties = Arrays.copyOf(defaults, defaults.length + 2);
+            properties[defaults.length] = "spring.jpa.properties.hibernate.cache.use_query_cache=false";
+            properties[defaults.length + 1] = "flights.index.enabled=" + indexed;
+            return properties;
+        }
+    }
+
+    @Benchmark
+    public List<Flight> findByOrigin(IndexState db) {
+        return db.flightRepository.findByOrigin(db.hub);
+    }
+
+    @Benchmark
+    public List<Flight> findFlightByOriginAndDestination(IndexState db) {
+        return db.flightRepository.findFlightByOriginAndDestination(db.hub, FlightDataSeeder.AIRPORTS[1]);
+    }
+}
@@ -0,0 +1,131 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.repository.FlightCursor;
+import com.tomboja.springdatajpa.repository.FlightWindow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Query and write paths of FlightRepository against a pre-loaded table.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="FlightRepositoryBenchmark -p rows=1000000"
+ */
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FlightRepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int SAVE_BATCH = 100;
+    private static final int DELETE_BATCH = 500;
+    private static final String DELETED_ORIGIN = "ZZZ";
+
+    @State(Scope.Thread)
+    public static class DeleteState {
+        @Setup(Level.Invocation)
+        public void insertFlightsToDelete(FlightDatabaseState db) {
+            db.seeder.seedOrigin(DELETED_ORIGIN, DELETE_BATCH);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class KeysetState {
+        FlightCursor deepCursor;
+
+        @Setup(Level.Trial)
+        public void positionDeepCursor(FlightDatabaseState db) {
+            // Same position as findByOriginDeepPage, reached by seeking instead of OFFSET
+            final int offset = deepPage(db) * PAGE_SIZE - 1;
+            final Long id = db.jdbcTemplate.queryForObject(
+                    "select id from flight where origin = ? order by scheduled_at, id limit 1 offset ?",
+                    Long.class, db.hub, offset);
+            deepCursor = FlightCursor.after(FlightCursor.Order.SCHEDULED_AT,
+                    db.flightRepository.findById(id).orElseThrow());
+        }
+    }
+
+    @Benchmark
+    public List<Flight> findByOrigin(FlightDatabaseState db) {
+        return db.flightRepository.findByOrigin(db.hub);
+    }
+
+    @Benchmark
+    public List<Flight> findFlightByOriginAndDestination(FlightDatabaseState db) {
+        return db.flightRepository.findFlightByOriginAndDestination(db.hub, FlightDataSeeder.AIRPORTS[1]);
+    }
+
+    @Benchmark
+    public List<Flight> findByOriginIn(FlightDatabaseState db) {
+        return db.flightRepository.findByOriginIn(Arrays.asList(FlightDataSeeder.AIRPORTS).subList(0, 3));
+    }
+
+    @Benchmark
+    public List<Flight> findByOriginIgnoreCase(FlightDatabaseState db) {
+        return db.flightRepository.findByOriginIgnoreCase(db.hub.toLowerCase(Locale.ROOT));
+    }
+
+    @Benchmark
+    public Page<Flight> findByOriginFirstPage(FlightDatabaseState db) {
+        return db.flightRepository.findByOrigin(db.hub, PageRequest.of(0, PAGE_SIZE, Sort.by("scheduledAt", "id")));
+    }
+
+    @Benchmark
+    public Page<Flight> findByOriginDeepPage(FlightDatabaseState db) {
+        return db.flightRepository.findByOrigin(db.hub,
+                PageRequest.of(deepPage(db), PAGE_SIZE, Sort.by("scheduledAt", "id")));
+    }
+
+    @Benchmark
+    public FlightWindow seekByOriginFirstWindow(FlightDatabaseState db) {
+        return db.flightRepository.seekByOrigin(db.hub, FlightCursor.first(FlightCursor.Order.SCHEDULED_AT), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public FlightWindow seekByOriginDeepWindow(FlightDatabaseState db, KeysetState keyset) {
+        return db.flightRepository.seekByOrigin(db.hub, keyset.deepCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Flight> saveAll(FlightDatabaseState db) {
+        final List<Flight> flights = new ArrayList<>(SAVE_BATCH);
+        for (int i = 0; i < SAVE_BATCH; i++) {
+            flights.add(new Flight(null, db.seeder.randomAirport(), db.seeder.randomAirport(),
+                    db.seeder.randomScheduledAt()));
+        }
+        return db.flightRepository.saveAll(flights);
+    }
+
+    @Benchmark
+    public void deleteByOrigin(FlightDatabaseState db, DeleteState toDelete) {
+        db.transactionTemplate.executeWithoutResult(status -> db.flightRepository.deleteByOrigin(DELETED_ORIGIN));
+    }
+
+    private static int deepPage(FlightDatabaseState db) {
+        return db.rows / FlightDataSeeder.AIRPORT_COUNT / PAGE_SIZE / 2;
+    }
+}
@@ -0,0 +1,102 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.Flight;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.persistence.EntityManagerFactory;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * findByOriginIn with lists of up to {@code size} origins, three of which
+ * have flights so the result stays the same size. Every call picks a length
+ * between size/2 and size, as real callers do, which is what fills the
+ * query plan cache when lists are not padded. strategy=single is the
+ * behaviour before padding, batching and the temporary table join.
+ * Query plan cache misses and heap after GC are printed per trial.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="InListBenchmark -p rows=100000"
+ */
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class InListBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class InListState extends FlightDatabaseState {
+        @Param({"1", "10", "100", "1000", "10000"})
+        public int size;
+
+        @Param({"single", "padded", "batched", "joined"})
+        public String strategy;
+
+        final Random random = new Random(7);
+        List<String> origins;
+        Statistics statistics;
+
+        @Setup(Level.Trial)
+        public void prepare() {
+            origins = new ArrayList<>(Arrays.asList(FlightDataSeeder.AIRPORTS).subList(0, 3));
+            for (int i = origins.size(); i < size; i++) {
+                origins.add(String.format("Z%05d", i));
+            }
+            statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+        }
+
+        @TearDown(Level.Trial)
+        public void report() {
+            System.gc();
+            System.out.printf("%n%s size=%d: %,d query plans compiled, %,d MB heap used after GC%n",
+                    strategy, size, statistics.getQueryPlanCacheMissCount(),
+                    ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() >> 20);
+        }
+
+        @Override
+        protected String[] properties() {
+            final String[] defaults = super.properties();
+            final String[] properties = Arrays.copyOf(defaults, defaults.length + 4);
+            properties[defaults.length] = "spring.jpa.properties.hibernate.query.in_clause_parameter_padding="
+                    + !strategy.equals("single");
+            properties[defaults.length + 1] = "spring.jpa.properties.hibernate.generate_statistics=true";
+            properties[defaults.length + 2] = "flights.in-list.batch-size="
+                    + (strategy.equals("batched") ? 500 : Integer.MAX_VALUE);
+            properties[defaults.length + 3] = "flights.in-list.join-threshold="
+                    + (strategy.equals("joined") ? 1 : Integer.MAX_VALUE);
+            return properties;
+        }
+
+        List<String> nextOrigins() {
+            return origins.subList(0, size / 2 + 1 + random.nextInt(size - size / 2));
+        }
+    }
+
+    @Benchmark
+    public List<Flight> findByOriginIn(InListState db) {
+        return db.flightRepository.findByOriginIn(db.nextOrigins());
+    }
+}
@@ -0,0 +1,114 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.Flight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Latency of the FlightRepository access paths with and without the
+ * indexes declared on Flight, printing the H2 query plan of each path.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="IndexedQueryBenchmark -p rows=5000000"
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class IndexedQueryBenchmark {
+
+    private static final String[] INDEXES = {
+            "idx_flight_origin_scheduled_at",
+            "idx_flight_origin_destination",
+            "idx_flight_origin_upper",
+            "idx_flight_destination",
+            "idx_flight_scheduled_at"
+    };
+
+    @State(Scope.Benchmark)
+    public static class IndexState {
+        @Param({"true", "false"})
+        public boolean indexed;
+
+        @Setup(Level.Trial)
+        public void prepareIndexes(FlightDatabaseState db) {
+            if (!indexed) {
+                for (String index : INDEXES) {
+                    db.jdbcTemplate.execute("drop index " + index);
+                }
+            }
+            printPlans(db);
+        }
+
+        private void printPlans(FlightDatabaseState db) {
+            final String hub = "'" + db.hub + "'";
+            final Map<String, String> queries = new LinkedHashMap<>();
+            queries.put("findByOrigin", "select * from flight where origin = " + hub);
+            queries.put("findFlightByOriginAndDestination", "select * from flight where origin = " + hub
+                    + " and destination = '" + FlightDataSeeder.AIRPORTS[1] + "'");
+            queries.put("findByOriginIn", "select * from flight where origin in ('AAA', 'AAB', 'AAC')");
+            queries.put("findByOriginIgnoreCase", "select * from flight where origin_upper = upper('aaa')");
+            queries.put("findByOrigin(Pageable)", "select * from flight where origin = " + hub
+                    + " order by scheduled_at, id limit 20 offset 1000");
+            queries.put("findAll(Sort destination)", "select * from flight order by destination, id limit 20");
+            queries.put("deleteByOrigin", "delete from flight where origin = " + hub);
+            System.out.println();
+            queries.forEach((name, sql) -> System.out.printf("[indexed=%s] %s:%n%s%n", indexed, name,
+                    db.jdbcTemplate.queryForObject("explain " + sql, String.class)));
+        }
+    }
+
+    @Benchmark
+    public List<Flight> findByOrigin(FlightDatabaseState db, IndexState index) {
+        return db.flightRepository.findByOrigin(db.hub);
+    }
+
+    @Benchmark
+    public List<Flight> findFlightByOriginAndDestination(FlightDatabaseState db, IndexState index) {
+        return db.flightRepository.findFlightByOriginAndDestination(db.hub, FlightDataSeeder.AIRPORTS[1]);
+    }
+
+    @Benchmark
+    public List<Flight> findByOriginIn(FlightDatabaseState db, IndexState index) {
+        return db.flightRepository.findByOriginIn(Arrays.asList(FlightDataSeeder.AIRPORTS).subList(0, 3));
+    }
+
+    @Benchmark
+    public List<Flight> findByOriginIgnoreCase(FlightDatabaseState db, IndexState index) {
+        return db.flightRepository.findByOriginIgnoreCase(db.hub.toLowerCase(Locale.ROOT));
+    }
+
+    @Benchmark
+    public Page<Flight> findByOriginPaged(FlightDatabaseState db, IndexState index) {
+        return db.flightRepository.findByOrigin(db.hub, PageRequest.of(50, 20, Sort.by("scheduledAt", "id")));
+    }
+
+    @Benchmark
+    public List<Flight> findAllSortedByDestination(FlightDatabaseState db, IndexState index) {
+        return db.flightRepository.findAll(PageRequest.of(0, 20, Sort.by("destination", "id"))).getContent();
+    }
+}
@@ -0,0 +1,67 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.Flight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * The first page of a hub's flights and of all flights with an exact
+ * COUNT(*), with a cached total and as a slice without any total.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="PageCountBenchmark -p rows=1000000"
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PageCountBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by("scheduledAt", "id"));
+
+    @Benchmark
+    public Page<Flight> originPageExactCount(FlightDatabaseState db) {
+        return db.flightRepository.findByOrigin(db.hub, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Flight> originPageCachedCount(FlightDatabaseState db) {
+        return db.flightRepository.findByOriginWithCachedCount(db.hub, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Slice<Flight> originSlice(FlightDatabaseState db) {
+        return db.flightRepository.findSliceByOrigin(db.hub, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Flight> allPageExactCount(FlightDatabaseState db) {
+        return db.flightRepository.findAll(FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Flight> allPageCachedCount(FlightDatabaseState db) {
+        return db.flightRepository.findAllWithCachedCount(FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Slice<Flight> allSlice(FlightDatabaseState db) {
+        return db.flightRepository.findSliceBy(FIRST_PAGE);
+    }
+}
@@ -0,0 +1,292 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.repository.FlightSummary;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.tomboja.springdatajpa.benchmark.FlightDataSeeder.AIRPORTS;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Runs FlightRepository workloads against embedded H2 and recommends the
+ * settings of application-perf.properties from the curves it measures:
+ * <ul>
+ *     <li>pool size: a read/write mix at concurrency 2, 4, 8, ... with as
+ *     many connections as callers, the lowest concurrency reaching 95% of
+ *     the best throughput</li>
+ *     <li>statement cache (H2 QUERY_CACHE_SIZE, statements parsed once per
+ *     connection): the same mix at that pool size, smallest size within 95%</li>
+ *     <li>fetch size: streaming and list reads of an origin's flights,
+ *     smallest fetch size within 95%</li>
+ *     <li>plan cache: twice the HQL plans the mix compiles, so none is
+ *     evicted, at least 64</li>
+ * </ul>
+ * Every point is a fresh application on a fresh database seeded with the
+ * same rows, callers draw operations from fixed seeds: runs on one box
+ * differ by measurement noise only. The recommendation is printed and
+ * written to target/tuning/application-perf.properties.
+ *
+ * Arguments as key=value: rows (200000), warmup and measure seconds per
+ * point (3, 10), max-concurrency (4 x cores, at most 64).
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.main=com.tomboja.springdatajpa.benchmark.PerfTuningHarness
+ * -Dbenchmark.args="rows=200000 measure=10"
+ */
+
+public class PerfTuningHarness {
+
+    private static final double KNEE = 0.95;
+    private static final long SEED = 42L;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by("scheduledAt", "id"));
+    private static final int[] STATEMENT_CACHE_SIZES = {8, 16, 32, 64, 128};
+    private static final int[] FETCH_SIZES = {10, 100, 1000, 10000};
+
+    private final int rows;
+    private final Duration warmup;
+    private final Duration measure;
+    private final int maxConcurrency;
+    private int trials;
+
+    PerfTuningHarness(Map<String, String> options) {
+        this.rows = Integer.parseInt(options.getOrDefault("rows", "200000"));
+        this.warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "3")));
+        this.measure = Duration.ofSeconds(Long.parseLong(options.getOrDefault("measure", "10")));
+        this.maxConcurrency = Integer.parseInt(options.getOrDefault("max-concurrency",
+                String.valueOf(Math.min(64, 4 * Runtime.getRuntime().availableProcessors()))));
+    }
+
+    public static void main(String[] args) throws Exception {
+        final Map<String, String> options = new LinkedHashMap<>();
+        // Tokens without '=' are JMH options left in benchmark.args
+        Arrays.stream(args).filter(arg -> arg.contains("="))
+                .forEach(arg -> options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1)));
+        new PerfTuningHarness(options).run();
+    }
+
+    void run() throws Exception {
+        System.out.printf("%d cores, %s %s, %,d rows, %d s warm up, %d s measured per point%n",
+                Runtime.getRuntime().availableProcessors(), System.getProperty("java.vm.name"),
+                System.getProperty("java.version"), rows, warmup.getSeconds(), measure.getSeconds());
+
+        final List<Point> pool = new ArrayList<>();
+        // From 2 on: the importer and the async executor need a connection less than the pool
+        for (int concurrency = 2; concurrency <= maxConcurrency; concurrency *= 2) {
+            pool.add(measure(concurrency, concurrency, 8, 100, null, PerfTuningHarness::mix));
+        }
+        final int poolSize = knee("concurrency = pool size", pool);
+
+        final List<Point> statementCache = new ArrayList<>();
+        for (int size : STATEMENT_CACHE_SIZES) {
+            statementCache.add(measure(size, poolSize, size, 100, null, PerfTuningHarness::mix));
+        }
+        final int statementCacheSize = knee("statement cache size", statementCache);
+
+        final List<Point> fetch = new ArrayList<>();
+        for (int size : FETCH_SIZES) {
+            fetch.add(measure(size, poolSize, statementCacheSize, size, null, PerfTuningHarness::origins));
+        }
+        final int fetchSize = knee("fetch size", fetch);
+
+        final AtomicInteger plans = new AtomicInteger();
+        measure(poolSize, poolSize, statementCacheSize, fetchSize, plans, PerfTuningHarness::mix);
+        final int planCacheSize = Integer.highestOneBit(Math.max(32, plans.get() * 2 - 1)) * 2;
+        System.out.printf("%n%d query plans compiled by the mix%n", plans.get());
+
+        final String recommendation = String.join(System.lineSeparator(),
+                "# Recommended by PerfTuningHarness on " + Runtime.getRuntime().availableProcessors() + " cores",
+                "# Append ;QUERY_CACHE_SIZE=" + statementCacheSize + " to spring.datasource.url",
+                "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "spring.datasource.hikari.minimum-idle=" + poolSize,
+                "flights.async.max-concurrency=" + Math.max(1, poolSize - 2),
+                "flights.import.writers=" + Math.max(1, poolSize / 2),
+                "spring.jpa.properties.hibernate.jdbc.fetch_size=" + fetchSize,
+                "flights.stream.fetch-size=" + fetchSize,
+                "spring.jpa.properties.hibernate.query.plan_cache_max_size=" + planCacheSize, "");
+        final Path output = Paths.get("target/tuning/application-perf.properties");
+        Files.createDirectories(output.getParent());
+        Files.write(output, recommendation.getBytes(StandardCharsets.UTF_8));
+        System.out.printf("%n%s%nWritten to %s%n", recommendation, output);
+    }
+
+    // The lowest setting within KNEE of the best throughput, settings in increasing order
+    private static int knee(String setting, List<Point> points) {
+        final double best = points.stream().mapToDouble(point -> point.throughput).max().orElse(0);
+        System.out.printf("%n%-24s %12s %10s %10s%n", setting, "ops/s", "p50 ms", "p99 ms");
+        Point knee = null;
+        for (Point point : points) {
+            System.out.printf("%-24d %,12.0f %10.2f %10.2f%n", point.setting, point.throughput, point.p50, point.p99);
+            if (knee == null && point.throughput >= best * KNEE) {
+                knee = point;
+            }
+        }
+        System.out.printf("-> %s %d%n", setting, knee.setting);
+        return knee.setting;
+    }
+
+    private Point measure(int setting, int concurrency, int statementCacheSize, int fetchSize,
+                          AtomicInteger plans, Operation operation) throws Exception {
+        final String url = "jdbc:h2:mem:tuning-" + trials++ + ";QUERY_CACHE_SIZE=" + statementCacheSize;
+        final FlightDatabaseState db = new FlightDatabaseState() {
+            @Override
+            protected String[] properties() {
+                // The database closes with the pool's last connection, no DB_CLOSE_DELAY
+                return Stream.concat(
+                        Stream.of(super.properties()).filter(property -> !property.startsWith("spring.datasource.url=")),
+                        Stream.of("spring.datasource.url=" + url,
+                                "spring.datasource.hikari.maximum-pool-size=" + concurrency,
+                                "spring.datasource.hikari.minimum-idle=" + concurrency,
+                                "flights.async.max-concurrency=" + Math.max(1, concurrency - 1),
+                                "flights.import.writers=" + Math.max(1, concurrency - 1),
+                                "spring.jpa.properties.hibernate.jdbc.fetch_size=" + fetchSize,
+                                "flights.stream.fetch-size=" + fetchSize))
+                        .toArray(String[]::new);
+            }
+        };
+        db.rows = rows;
+        db.startApplication();
+        try {
+            final TransactionTemplate readOnly = new TransactionTemplate(db.transactionTemplate.getTransactionManager());
+            readOnly.setReadOnly(true);
+            final Point point = run(setting, concurrency, random -> operation.run(db, readOnly, random));
+            if (plans != null) {
+                final Statistics statistics = db.context.getBean(EntityManagerFactory.class)
+                        .unwrap(SessionFactory.class).getStatistics();
+                plans.set((int) statistics.getQueryPlanCacheMissCount());
+            }
+            return point;
+        } finally {
+            db.stopApplication();
+        }
+    }
+
+    private Point run(int setting, int concurrency, Consumer<Random> operation) throws Exception {
+        final ExecutorService callers = Executors.newFixedThreadPool(concurrency);
+        final long warmedUp = System.nanoTime() + warmup.toNanos();
+        final long end = warmedUp + measure.toNanos();
+        final List<Future<long[]>> latencies = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            final Random random = new Random(SEED + i);
+            latencies.add(callers.submit(() -> {
+                long[] recorded = new long[1024];
+                int count = 0;
+                long now = System.nanoTime();
+                while (now < end) {
+                    final long started = now;
+                    operation.accept(random);
+                    now = System.nanoTime();
+                    if (started >= warmedUp && now <= end) {
+                        if (count == recorded.length) {
+                            recorded = Arrays.copyOf(recorded, count * 2);
+                        }
+                        recorded[count++] = now - started;
+                    }
+                }
+                return Arrays.copyOf(recorded, count);
+            }));
+        }
+        callers.shutdown();
+        long[] all = new long[0];
+        for (Future<long[]> latency : latencies) {
+            final long[] recorded = latency.get();
+            final int offset = all.length;
+            all = Arrays.copyOf(all, offset + recorded.length);
+            System.arraycopy(recorded, 0, all, offset, recorded.length);
+        }
+        callers.awaitTermination(1, TimeUnit.MINUTES);
+        Arrays.sort(all);
+        return new Point(setting, all.length / (measure.toNanos() / 1e9), percentile(all, 0.50), percentile(all, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, sorted.length * percentile)] / 1e6;
+    }
+
+    // Paging, multi-origin, projected and case-insensitive reads, one write in ten
+    private static void mix(FlightDatabaseState db, TransactionTemplate readOnly, Random random) {
+        final String origin = AIRPORTS[random.nextInt(AIRPORTS.length)];
+        final String other = AIRPORTS[random.nextInt(AIRPORTS.length)];
+        switch (random.nextInt(10)) {
+            case 0:
+            case 1:
+            case 2:
+                db.flightRepository.findByOrigin(origin, FIRST_PAGE);
+                break;
+            case 3:
+            case 4:
+                db.flightRepository.findByOriginIn(Arrays.asList(origin, other,
+                        AIRPORTS[random.nextInt(AIRPORTS.length)]));
+                break;
+            case 5:
+            case 6:
+                db.flightRepository.findFlightByOriginAndDestination(origin, other, FlightSummary.class);
+                break;
+            case 7:
+            case 8:
+                db.flightRepository.findByOriginIgnoreCase(origin.toLowerCase(Locale.ROOT));
+                break;
+            default:
+                db.flightRepository.save(new Flight(null, origin, other,
+                        FlightDataSeeder.EPOCH.plusMinutes(random.nextInt(525_600))));
+        }
+    }
+
+    // Every flight of an origin, streamed or as a list of projections
+    private static void origins(FlightDatabaseState db, TransactionTemplate readOnly, Random random) {
+        final String origin = AIRPORTS[random.nextInt(AIRPORTS.length)];
+        if (random.nextBoolean()) {
+            db.flightRepository.findByOrigin(origin, FlightSummary.class);
+        } else {
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<Flight> flights = db.flightRepository.streamByOrigin(origin)) {
+                    flights.count();
+                }
+            });
+        }
+    }
+
+    private interface Operation {
+        void run(FlightDatabaseState db, TransactionTemplate readOnly, Random random);
+    }
+
+    private static final class Point {
+        final int setting;
+        final double throughput;
+        final double p50;
+        final double p99;
+
+        Point(int setting, double throughput, double p50, double p99) {
+            this.setting = setting;
+            this.throughput = throughput;
+            this.p50 = p50;
+            this.p99 = p99;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.repository.FlightSummary;
+import com.tomboja.springdatajpa.repository.FlightView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.persistence.Tuple;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Flights from one hub as managed entities against the read-only
+ * projections. The entity query runs without the query cache so every
+ * variant reaches the database.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="ProjectionBenchmark -p rows=1000000"
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ProjectionBenchmark {
+
+    @Benchmark
+    public List<Flight> entities(FlightDatabaseState db) {
+        return db.transactionTemplate.execute(status -> db.flightRepository.findByOrigin(db.hub, Flight.class));
+    }
+
+    @Benchmark
+    public List<FlightSummary> interfaceProjection(FlightDatabaseState db) {
+        return db.flightRepository.findByOrigin(db.hub, FlightSummary.class);
+    }
+
+    @Benchmark
+    public List<FlightView> dtoProjection(FlightDatabaseState db) {
+        return db.flightRepository.findByOrigin(db.hub, FlightView.class);
+    }
+
+    @Benchmark
+    public List<Tuple> tuples(FlightDatabaseState db) {
+        return db.flightRepository.findTuplesByOrigin(db.hub);
+    }
+}
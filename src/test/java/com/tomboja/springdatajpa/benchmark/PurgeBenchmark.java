@@ -0,0 +1,78 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.repository.PurgeResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Purging one busy origin with the single DELETE statement (chunk = 0)
+ * against chunked purges. Prints the longest time a transaction held row
+ * locks during each iteration.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="PurgeBenchmark -p rows=1000000"
+ */
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PurgeBenchmark {
+
+    private static final String PURGED_ORIGIN = "ZZZ";
+
+    @State(Scope.Thread)
+    public static class Purge {
+        @Param({"0", "1000", "10000"})
+        public int chunk;
+
+        @Param({"50000"})
+        public int flights;
+
+        Duration longestLock = Duration.ZERO;
+
+        @Setup(Level.Iteration)
+        public void insertFlightsToPurge(FlightDatabaseState db) {
+            db.seeder.seedOrigin(PURGED_ORIGIN, flights);
+        }
+
+        @TearDown(Level.Iteration)
+        public void reportLockHoldTime() {
+            System.out.printf("%n[chunk=%d] longest lock hold: %d ms%n", chunk, longestLock.toMillis());
+            longestLock = Duration.ZERO;
+        }
+    }
+
+    @Benchmark
+    public long purge(FlightDatabaseState db, Purge purge) {
+        if (purge.chunk == 0) {
+            final long started = System.nanoTime();
+            final Integer deleted = db.transactionTemplate.execute(
+                    status -> db.flightRepository.deleteByOrigin(PURGED_ORIGIN));
+            purge.longestLock = Duration.ofNanos(System.nanoTime() - started);
+            return deleted;
+        }
+        final PurgeResult result = db.flightRepository
+                .purgeByOrigin(Collections.singleton(PURGED_ORIGIN), null, purge.chunk);
+        purge.longestLock = result.getLongestChunk();
+        return result.getDeleted();
+    }
+}
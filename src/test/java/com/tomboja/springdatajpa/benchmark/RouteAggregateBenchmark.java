@@ -0,0 +1,109 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.changes.FlightChangeFeed;
+import com.tomboja.springdatajpa.changes.FlightChangeLog;
+import com.tomboja.springdatajpa.repository.RouteCount;
+import com.tomboja.springdatajpa.repository.RouteDeparture;
+import com.tomboja.springdatajpa.route.RouteSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * A route dashboard: flights and next departure for every route. Loading
+ * the flights and aggregating them in the application, against the GROUP BY
+ * and window queries of FlightRepository and against RouteSummary.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="RouteAggregateBenchmark -p rows=1000000"
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RouteAggregateBenchmark {
+
+    // Half a year into the seeded flights
+    private static final LocalDateTime AFTER = FlightDataSeeder.EPOCH.plusMonths(6);
+
+    @State(Scope.Benchmark)
+    public static class RouteState extends FlightDatabaseState {
+        RouteSummary routeSummary;
+        TransactionTemplate readOnly;
+
+        @Override
+        protected String[] properties() {
+            return Stream.concat(Stream.of(super.properties()), Stream.of("flights.changes.enabled=true",
+                    "flights.route-summary.enabled=true"))
+                    .toArray(String[]::new);
+        }
+
+        // Seeded rows reach the summary through the change feed
+        @Override
+        protected void seed() {
+            super.seed();
+            routeSummary = context.getBean(RouteSummary.class);
+            final FlightChangeLog changeLog = context.getBean(FlightChangeLog.class);
+            final FlightChangeFeed changeFeed = context.getBean(FlightChangeFeed.class);
+            while (routeSummary.position() < changeLog.sequence()) {
+                changeFeed.dispatch();
+            }
+            readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            readOnly.setReadOnly(true);
+        }
+    }
+
+    @Benchmark
+    public void inApplication(RouteState db, Blackhole blackhole) {
+        final Map<String, Long> flights = new HashMap<>();
+        final Map<String, LocalDateTime> nextDepartures = new HashMap<>();
+        db.readOnly.executeWithoutResult(status -> {
+            try (Stream<Flight> all = db.flightRepository.streamAll()) {
+                all.forEach(flight -> {
+                    final String route = flight.getOrigin() + "-" + flight.getDestination();
+                    flights.merge(route, 1L, Long::sum);
+                    if (flight.getScheduledAt().isAfter(AFTER)) {
+                        nextDepartures.merge(route, flight.getScheduledAt(),
+                                (a, b) -> a.isBefore(b) ? a : b);
+                    }
+                });
+            }
+        });
+        blackhole.consume(flights);
+        blackhole.consume(nextDepartures);
+    }
+
+    @Benchmark
+    public void aggregateQueries(RouteState db, Blackhole blackhole) {
+        final List<RouteCount> flights = db.flightRepository.countFlightsByRoute();
+        final List<RouteDeparture> nextDepartures = db.flightRepository.findNextDeparturesAfter(AFTER);
+        blackhole.consume(flights);
+        blackhole.consume(nextDepartures);
+    }
+
+    @Benchmark
+    public void summaryTable(RouteState db, Blackhole blackhole) {
+        blackhole.consume(db.routeSummary.findRouteCounts());
+        blackhole.consume(db.routeSummary.findNextDeparturesAfter(AFTER));
+    }
+}
@@ -0,0 +1,77 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.repository.FlightCursor;
+import com.tomboja.springdatajpa.repository.FlightWindow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * "Departures from the hub in the next 6 hours" while history grows. The
+ * working set stays at {@code rows} flights over one year, {@code history}
+ * older flights are added in front of it and, with archived=true, moved to
+ * flight_archive before measuring. Latency should not follow history.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="TimeRangeBenchmark -p rows=100000"
+ */
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class TimeRangeBenchmark {
+
+    private static final int WINDOW = 50;
+    private static final LocalDateTime NOW = FlightDataSeeder.EPOCH.plusMonths(6);
+
+    @State(Scope.Benchmark)
+    public static class HistoryState extends FlightDatabaseState {
+        @Param({"0", "1000000", "4000000", "16000000"})
+        public int history;
+
+        @Param({"false", "true"})
+        public boolean archived;
+
+        @Override
+        protected void seed() {
+            super.seed();
+            // Ten years before the working set
+            seeder.seedBetween(history, FlightDataSeeder.EPOCH.minusYears(10), FlightDataSeeder.EPOCH);
+            if (archived) {
+                flightRepository.archiveScheduledBefore(FlightDataSeeder.EPOCH, 50_000);
+            }
+        }
+    }
+
+    @Benchmark
+    public FlightWindow departuresNextSixHours(HistoryState db) {
+        return db.flightRepository.seekByOriginScheduledBetween(db.hub, NOW, NOW.plusHours(6),
+                FlightCursor.first(FlightCursor.Order.SCHEDULED_AT), WINDOW);
+    }
+
+    @Benchmark
+    public FlightWindow departuresNextWeek(HistoryState db) {
+        return db.flightRepository.seekByOriginScheduledBetween(db.hub, NOW, NOW.plusDays(7),
+                FlightCursor.first(FlightCursor.Order.SCHEDULED_AT), WINDOW);
+    }
+
+    @Benchmark
+    public long countAll(HistoryState db) {
+        // Scans the hot table, this is what archiving keeps small
+        return db.flightRepository.count();
+    }
+}
@@ -0,0 +1,101 @@
+package com.tomboja.springdatajpa.benchmark;
+
+import com.tomboja.springdatajpa.Flight;
+import com.tomboja.springdatajpa.repository.UpsertResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ProjectName: spring-data-JPA
+ * @Author: tdessalegn
+ * @Date: 10/18/26
+ *
+ * Refreshing the schedule of a few origins when most flights are re-sent
+ * unchanged: deleteByOrigin and saveInBatches against upsertAll, next to
+ * the rows seeded for every other origin. upsertAll does not delete the
+ * flights a feed no longer lists, its table grows by the changed share per call.
+ * Run with: mvn -Pbenchmarks verify -Dbenchmark.args="UpsertBenchmark -p rows=1000000"
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class UpsertBenchmark {
+
+    private static final String[] FEED_ORIGINS = {"FEED-0", "FEED-1", "FEED-2", "FEED-3", "FEED-4"};
+    private static final int FLIGHTS_PER_ORIGIN = 2_000;
+
+    @State(Scope.Benchmark)
+    public static class ScheduleState extends FlightDatabaseState {
+        final List<Flight> schedule = new ArrayList<>();
+
+        @Override
+        protected void seed() {
+            super.seed();
+            for (String origin : FEED_ORIGINS) {
+                for (int i = 0; i < FLIGHTS_PER_ORIGIN; i++) {
+                    schedule.add(new Flight(null, origin, seeder.randomAirport(),
+                            FlightDataSeeder.EPOCH.plusMinutes(i * 30L)));
+                }
+            }
+            flightRepository.saveInBatches(copy(schedule));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Feed {
+        @Param({"0.01", "0.1"})
+        public double changed;
+
+        List<Flight> flights;
+
+        // The stored schedule with a share of the flights moved to a new time
+        @Setup(Level.Invocation)
+        public void createFeed(ScheduleState db) {
+            flights = copy(db.schedule);
+            for (int i = 0; i < flights.size() * changed; i++) {
+                final Flight flight = flights.get(i);
+                flight.setScheduledAt(db.seeder.randomScheduledAt());
+            }
+        }
+    }
+
+    @Benchmark
+    public long deleteAndReinsert(ScheduleState db, Feed feed) {
+        return db.transactionTemplate.execute(status -> {
+            for (String origin : FEED_ORIGINS) {
+                db.flightRepository.deleteByOrigin(origin);
+            }
+            return db.flightRepository.saveInBatches(feed.flights);
+        });
+    }
+
+    @Benchmark
+    public UpsertResult upsertAll(ScheduleState db, Feed feed) {
+        return db.flightRepository.upsertAll(feed.flights);
+    }
+
+    private static List<Flight> copy(List<Flight> flights) {
+        final List<Flight> copies = new ArrayList<>(flights.size());
+        for (Flight flight : flights) {
+            copies.add(new Flight(null, flight.getOrigin(), flight.getDestination(), flight.getScheduledAt()));
+        }
+        return copies;
+    }
+}
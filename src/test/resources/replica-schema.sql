@@ -0,0 +1,11 @@
+-- Schema of the H2 instances standing in for read replicas in the routing
+-- tests, a real replica gets both tables through replication
+create table if not exists flight (
+    id bigint not null primary key,
+    destination varchar(255),
+    origin varchar(255),
+    origin_upper varchar(255),
+    scheduled_at timestamp,
+    version bigint default 0 not null
+);
+create table if not exists replication_heartbeat (id int primary key, beat_at timestamp not null);